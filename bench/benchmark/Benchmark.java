@@ -0,0 +1,42 @@
+package benchmark;
+
+/**
+ * Opération mesurée par {@link BenchmarkRunner}.
+ * 
+ * <p>Chaque itération de mesure exécute un lot de <code>batchSize</code>
+ * opérations. {@link #prepare(int)} est appelée hors chronométrage avant
+ * chaque lot : les benchmarks d'opérations qui modifient leurs données
+ * (Jest, offres, main, deck) y préparent une copie neuve par opération.</p>
+ * 
+ * <p>La valeur retournée par {@link #run(int)} est accumulée par le runner
+ * pour empêcher la JVM d'éliminer le calcul mesuré.</p>
+ * 
+ * @see benchmark.BenchmarkRunner
+ */
+public abstract class Benchmark {
+    private final String name;
+
+    protected Benchmark(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Prépare les données d'un lot, hors chronométrage.
+     *
+     * @param batchSize nombre d'opérations du lot
+     */
+    public void prepare(int batchSize) {
+    }
+
+    /**
+     * Exécute une opération.
+     *
+     * @param index index de l'opération dans le lot (0 à batchSize - 1)
+     * @return valeur dépendant du résultat de l'opération
+     */
+    public abstract long run(int index);
+}
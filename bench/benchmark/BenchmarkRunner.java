@@ -0,0 +1,131 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Exécution des benchmarks : itérations de chauffe, itérations mesurées et
+ * rapport en nanosecondes par opération.
+ * 
+ * <p><b>Paramètres :</b></p>
+ * <ul>
+ *   <li><code>warmup</code> - Nombre d'itérations de chauffe (non mesurées)</li>
+ *   <li><code>iterations</code> - Nombre d'itérations mesurées</li>
+ *   <li><code>batch</code> - Nombre d'opérations par itération</li>
+ *   <li><code>filter</code> - Expression régulière sur le nom des benchmarks</li>
+ * </ul>
+ * 
+ * <p>Le rapport donne la moyenne, le minimum et l'écart type des itérations
+ * mesurées. Les benchmarks étant à graine fixe, deux exécutions sur la même
+ * machine sont directement comparables d'un commit à l'autre.</p>
+ * 
+ * @see benchmark.Benchmark
+ */
+public class BenchmarkRunner {
+    private final int warmupIterations;
+    private final int measuredIterations;
+    private final int batchSize;
+    private final Pattern filter;
+    private long sink;
+
+    public BenchmarkRunner(int warmupIterations, int measuredIterations, int batchSize, String filter) {
+        if (warmupIterations < 0 || measuredIterations < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("warmup must be >= 0, iterations and batch must be >= 1");
+        }
+        this.warmupIterations = warmupIterations;
+        this.measuredIterations = measuredIterations;
+        this.batchSize = batchSize;
+        this.filter = Pattern.compile(filter == null ? ".*" : filter);
+    }
+
+    public List<Result> runAll(List<Benchmark> benchmarks) {
+        ArrayList<Result> results = new ArrayList<>();
+        for (Benchmark benchmark : benchmarks) {
+            if (filter.matcher(benchmark.getName()).find()) {
+                Result result = run(benchmark);
+                System.out.println(result);
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    public Result run(Benchmark benchmark) {
+        for (int i = 0; i < warmupIterations; i++) {
+            runBatch(benchmark);
+        }
+        double[] nanosPerOp = new double[measuredIterations];
+        for (int i = 0; i < measuredIterations; i++) {
+            nanosPerOp[i] = (double) runBatch(benchmark) / batchSize;
+        }
+        return new Result(benchmark.getName(), nanosPerOp);
+    }
+
+    private long runBatch(Benchmark benchmark) {
+        benchmark.prepare(batchSize);
+        long start = System.nanoTime();
+        long accumulator = 0;
+        for (int i = 0; i < batchSize; i++) {
+            accumulator += benchmark.run(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        sink += accumulator;
+        return elapsed;
+    }
+
+    /**
+     * @return somme des valeurs retournées par les opérations (empêche leur élimination)
+     */
+    public long getSink() {
+        return sink;
+    }
+
+    /**
+     * Résultat d'un benchmark, en nanosecondes par opération.
+     */
+    public static class Result {
+        private final String name;
+        private final double mean;
+        private final double min;
+        private final double stdDev;
+
+        Result(String name, double[] nanosPerOp) {
+            this.name = name;
+            double sum = 0;
+            double best = Double.MAX_VALUE;
+            for (double value : nanosPerOp) {
+                sum += value;
+                best = Math.min(best, value);
+            }
+            this.mean = sum / nanosPerOp.length;
+            double squares = 0;
+            for (double value : nanosPerOp) {
+                squares += (value - mean) * (value - mean);
+            }
+            this.stdDev = Math.sqrt(squares / nanosPerOp.length);
+            this.min = best;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getMean() {
+            return mean;
+        }
+
+        public double getMin() {
+            return min;
+        }
+
+        public double getStdDev() {
+            return stdDev;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-40s %14.1f ns/op (min %.1f, +/- %.1f)", name, mean, min, stdDev);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package benchmark;
+
+import model.cards.Card;
+import model.cards.Face;
+import model.cards.Joker;
+import model.cards.Suit;
+import model.cards.SuitCard;
+import model.game.ExtensionManager;
+import model.game.Game;
+import model.game.GameConfiguration;
+import model.game.variants.StandardVariant;
+import model.players.Jest;
+import model.players.Offer;
+import model.players.Player;
+import model.players.VirtualPlayer;
+import model.players.strategies.StrategyType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Données de test fixes pour les benchmarks.
+ * 
+ * <p>Toutes les données sont construites à partir de cartes fixées ou de
+ * la graine {@link #SEED} : deux exécutions mesurent exactement le même
+ * travail.</p>
+ * 
+ * <p><b>Données disponibles :</b></p>
+ * <ul>
+ *   <li>Jest de 6 cartes du jeu de base (As seul, paire noire, Joker et Cœur)</li>
+ *   <li>Même Jest complété de deux cartes d'extension</li>
+ *   <li>Joueurs virtuels et offres d'un tour à 4 joueurs</li>
+ *   <li>Partie terminée (deck distribué dans les Jests, trophées tirés)</li>
+ *   <li>Configuration de partie sans interface</li>
+ * </ul>
+ * 
+ * @see benchmark.ModelBenchmarks
+ */
+public final class Fixtures {
+    public static final long SEED = 42L;
+
+    private static final StrategyType[] STRATEGIES = {
+            StrategyType.AGGRESSIVE, StrategyType.CAUTIOUS, StrategyType.RANDOM
+    };
+
+    private Fixtures() {
+    }
+
+    public static SuitCard card(Suit suit, Face face) {
+        return SuitCard.of(suit, face);
+    }
+
+    public static List<Card> baseJestCards() {
+        ArrayList<Card> cards = new ArrayList<>();
+        cards.add(card(Suit.SPADES, Face.ACE));
+        cards.add(card(Suit.SPADES, Face.THREE));
+        cards.add(card(Suit.CLUBS, Face.THREE));
+        cards.add(card(Suit.DIAMONDS, Face.FOUR));
+        cards.add(card(Suit.HEARTS, Face.TWO));
+        cards.add(Joker.INSTANCE);
+        return cards;
+    }
+
+    public static List<Card> extensionJestCards() {
+        ArrayList<Card> cards = new ArrayList<>(baseJestCards());
+        cards.add(ExtensionManager.getExtension("The Shield"));
+        cards.add(ExtensionManager.getExtension("The Jester"));
+        return cards;
+    }
+
+    public static Jest jest(List<Card> cards) {
+        Jest jest = new Jest();
+        for (Card card : cards) {
+            jest.addCard(card);
+        }
+        return jest;
+    }
+
+    public static ArrayList<Player> players(int count) {
+        ArrayList<Player> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            players.add(new VirtualPlayer("Bot" + (i + 1), STRATEGIES[i % STRATEGIES.length], SEED + i));
+        }
+        return players;
+    }
+
+    /**
+     * Offres d'un tour à 4 joueurs : une carte visible et une carte cachée par joueur.
+     */
+    public static ArrayList<Offer> offers(List<Player> players) {
+        Card[][] offered = {
+                { card(Suit.SPADES, Face.TWO), card(Suit.HEARTS, Face.ACE) },
+                { card(Suit.DIAMONDS, Face.THREE), card(Suit.CLUBS, Face.FOUR) },
+                { card(Suit.CLUBS, Face.TWO), Joker.INSTANCE },
+                { card(Suit.HEARTS, Face.FOUR), card(Suit.DIAMONDS, Face.ACE) },
+        };
+        ArrayList<Offer> offers = new ArrayList<>();
+        for (int i = 0; i < players.size(); i++) {
+            Card[] cards = offered[i % offered.length];
+            offers.add(new Offer(players.get(i), cards[0], cards[1]));
+        }
+        return offers;
+    }
+
+    /**
+     * Main de 2 cartes pour la phase d'offre.
+     */
+    public static ArrayList<Card> hand() {
+        ArrayList<Card> hand = new ArrayList<>();
+        hand.add(card(Suit.DIAMONDS, Face.TWO));
+        hand.add(card(Suit.SPADES, Face.FOUR));
+        return hand;
+    }
+
+    /**
+     * Partie terminée : trophées tirés puis cartes restantes distribuées
+     * à tour de rôle dans les Jests.
+     *
+     * @param playerCount nombre de joueurs (3 joueurs : 2 trophées)
+     * @param seed graine de la partie
+     * @return partie prête pour l'attribution des trophées
+     */
+    public static Game endedGame(int playerCount, long seed) {
+        Game game = new Game(seed);
+        for (int i = 0; i < playerCount; i++) {
+            game.addVirtualPlayer("Bot" + (i + 1), STRATEGIES[i % STRATEGIES.length]);
+        }
+        game.chooseTrophies(playerCount);
+        int seat = 0;
+        while (!game.getDeck().isEmpty()) {
+            game.getPlayers().get(seat).getJest().addCard(game.getDeck().dealCard());
+            seat = (seat + 1) % playerCount;
+        }
+        return game;
+    }
+
+    public static GameConfiguration configuration(int playerCount) {
+        ArrayList<GameConfiguration.PlayerConfiguration> seats = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            seats.add(new GameConfiguration.PlayerConfiguration("Bot" + (i + 1), false,
+                    STRATEGIES[i % STRATEGIES.length]));
+        }
+        return GameConfiguration.fromPlayerConfigs(seats, new StandardVariant(), new ArrayList<>());
+    }
+}
@@ -0,0 +1,355 @@
+package benchmark;
+
+import model.cards.Card;
+import model.cards.Deck;
+import model.game.Game;
+import model.game.GameCodec;
+import model.game.GameConfiguration;
+import model.game.Round;
+import model.game.variants.StandardVariant;
+import model.players.Jest;
+import model.players.Offer;
+import model.players.Player;
+import model.players.ScoreVisitorImpl;
+import model.players.Scorer;
+import model.players.ScorerFactory;
+import model.players.strategies.AggressiveStrategy;
+import model.players.strategies.CautiousStrategy;
+import model.players.strategies.PlayStrategy;
+import model.simulation.GameEngine;
+import model.simulation.Moves;
+import model.simulation.Playout;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Suite de benchmarks des chemins critiques du modèle.
+ * 
+ * <p><b>Benchmarks :</b></p>
+ * <ul>
+ *   <li><code>score.*</code> - {@link ScoreVisitorImpl#countJestScore(Jest)} avec et sans extensions</li>
+ *   <li><code>score.scorer.*</code> - Les mêmes Jests avec le {@link Scorer} spécialisé de {@link ScorerFactory}</li>
+ *   <li><code>trophies.assign</code> - {@link Game#assignTrophies()} en fin de partie à 3 joueurs</li>
+ *   <li><code>deck.shuffleAndDeal</code> - {@link Deck#shuffle()} puis distribution complète</li>
+ *   <li><code>round.*</code> - {@link Round#findBestOffer(ArrayList)} et {@link Round#getAvailableOffers()}</li>
+ *   <li><code>strategy.*</code> - <code>setCardsToOffer</code> et <code>chooseCard</code> des stratégies agressive et prudente</li>
+ *   <li><code>state.*</code> - Capture d'une partie dans un {@link Playout}, copie, génération des coups ({@link Moves}), coup joué puis annulé</li>
+ *   <li><code>save.*</code> - Écriture et relecture d'une partie en cours avec {@link GameCodec}, et en sérialisation Java pour comparaison</li>
+ *   <li><code>game.headless</code> - Partie complète à 4 IA via {@link GameEngine}</li>
+ * </ul>
+ * 
+ * <p><b>Utilisation :</b></p>
+ * <pre>
+ * java -cp out/src:out/bench benchmark.ModelBenchmarks [filter=regex] [warmup=5] [iterations=10] [batch=10000]
+ * </pre>
+ * 
+ * @see benchmark.BenchmarkRunner
+ * @see benchmark.Fixtures
+ */
+public class ModelBenchmarks {
+
+    public static void main(String[] args) {
+        int warmup = 5;
+        int iterations = 10;
+        int batch = 10000;
+        String filter = ".*";
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                System.err.println("Ignored argument (expected key=value): " + arg);
+                continue;
+            }
+            String key = arg.substring(0, separator);
+            String value = arg.substring(separator + 1);
+            switch (key) {
+                case "warmup" -> warmup = Integer.parseInt(value);
+                case "iterations" -> iterations = Integer.parseInt(value);
+                case "batch" -> batch = Integer.parseInt(value);
+                case "filter" -> filter = value;
+                default -> System.err.println("Unknown option: " + key);
+            }
+        }
+
+        BenchmarkRunner runner = new BenchmarkRunner(warmup, iterations, batch, filter);
+        runner.runAll(all());
+        System.out.println("(sink " + runner.getSink() + ")");
+    }
+
+    public static List<Benchmark> all() {
+        ArrayList<Benchmark> benchmarks = new ArrayList<>();
+        benchmarks.add(scoreBenchmark("score.baseJest", Fixtures.baseJestCards()));
+        benchmarks.add(scoreBenchmark("score.extensionJest", Fixtures.extensionJestCards()));
+        benchmarks.add(scorerBenchmark("score.scorer.baseJest", Fixtures.baseJestCards()));
+        benchmarks.add(scorerBenchmark("score.scorer.extensionJest", Fixtures.extensionJestCards()));
+        benchmarks.add(new AssignTrophiesBenchmark());
+        benchmarks.add(new DeckBenchmark());
+        benchmarks.addAll(roundBenchmarks());
+        benchmarks.add(new OfferBenchmark("strategy.aggressive.setCardsToOffer", new AggressiveStrategy()));
+        benchmarks.add(new OfferBenchmark("strategy.cautious.setCardsToOffer", new CautiousStrategy()));
+        benchmarks.add(new ChooseBenchmark("strategy.aggressive.chooseCard", new AggressiveStrategy()));
+        benchmarks.add(new ChooseBenchmark("strategy.cautious.chooseCard", new CautiousStrategy()));
+        benchmarks.addAll(stateBenchmarks());
+        benchmarks.addAll(saveBenchmarks());
+        benchmarks.add(new HeadlessGameBenchmark());
+        return benchmarks;
+    }
+
+    private static Benchmark scoreBenchmark(String name, List<Card> cards) {
+        Jest jest = Fixtures.jest(cards);
+        ScoreVisitorImpl visitor = new ScoreVisitorImpl();
+        return new Benchmark(name) {
+            @Override
+            public long run(int index) {
+                visitor.countJestScore(jest);
+                return visitor.getTotalScore();
+            }
+        };
+    }
+
+    private static Benchmark scorerBenchmark(String name, List<Card> cards) {
+        Jest jest = Fixtures.jest(cards);
+        Scorer scorer = ScorerFactory.forConfiguration(new StandardVariant(), jest.getMask());
+        return new Benchmark(name) {
+            @Override
+            public long run(int index) {
+                return scorer.score(jest);
+            }
+        };
+    }
+
+    private static List<Benchmark> roundBenchmarks() {
+        ArrayList<Player> players = Fixtures.players(4);
+        Round round = new Round(players, new Deck(Fixtures.SEED), 1);
+        for (Offer offer : Fixtures.offers(players)) {
+            round.addOffer(offer);
+        }
+        ArrayList<Offer> offers = round.getOffers();
+
+        ArrayList<Benchmark> benchmarks = new ArrayList<>();
+        benchmarks.add(new Benchmark("round.findBestOffer") {
+            @Override
+            public long run(int index) {
+                return round.findBestOffer(offers).getFaceUpCard().getOrdinal();
+            }
+        });
+        benchmarks.add(new Benchmark("round.getAvailableOffers") {
+            @Override
+            public long run(int index) {
+                return round.getAvailableOffers().size();
+            }
+        });
+        return benchmarks;
+    }
+
+    private static List<Benchmark> stateBenchmarks() {
+        Game game = GameEngine.createGame(Fixtures.configuration(4), Fixtures.SEED);
+        Player first = game.getPlayers().getFirst();
+        Playout state = Playout.capture(game, first, true);
+        long hand = state.getHand(state.getActor());
+        int up = Long.numberOfTrailingZeros(hand);
+        int down = Long.numberOfTrailingZeros(hand & (hand - 1));
+
+        ArrayList<Benchmark> benchmarks = new ArrayList<>();
+        benchmarks.add(new Benchmark("state.capture") {
+            @Override
+            public long run(int index) {
+                return Playout.capture(game, first, true).getDeckSize();
+            }
+        });
+        benchmarks.add(new Benchmark("state.copy") {
+            @Override
+            public long run(int index) {
+                return state.copy().getDeckSize();
+            }
+        });
+        int[] moves = new int[Moves.MAX_MOVES];
+        benchmarks.add(new Benchmark("state.generateMoves") {
+            @Override
+            public long run(int index) {
+                return Moves.generate(state, moves, 0);
+            }
+        });
+        benchmarks.add(new Benchmark("state.applyUndo") {
+            @Override
+            public long run(int index) {
+                state.applyOffer(up, down);
+                long hash = state.getZobristHash();
+                state.undo();
+                return hash;
+            }
+        });
+        return benchmarks;
+    }
+
+    private static List<Benchmark> saveBenchmarks() {
+        Game game = Fixtures.endedGame(4, Fixtures.SEED);
+        byte[] encoded = GameCodec.encode(game);
+
+        ArrayList<Benchmark> benchmarks = new ArrayList<>();
+        benchmarks.add(new Benchmark("save.encode") {
+            @Override
+            public long run(int index) {
+                return GameCodec.encode(game).length;
+            }
+        });
+        benchmarks.add(new Benchmark("save.decode") {
+            @Override
+            public long run(int index) {
+                return GameCodec.decode(encoded).getRoundCounter();
+            }
+        });
+        benchmarks.add(new Benchmark("save.javaSerialization") {
+            @Override
+            public long run(int index) {
+                try {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                        out.writeObject(game);
+                    }
+                    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                        return ((Game) in.readObject()).getRoundCounter() + bytes.size();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (ClassNotFoundException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+        return benchmarks;
+    }
+
+    /**
+     * Attribution des trophées ; chaque opération utilise sa propre partie terminée
+     * (graine {@link Fixtures#SEED} + index) car l'attribution modifie les Jests.
+     */
+    private static class AssignTrophiesBenchmark extends Benchmark {
+        private Game[] games = new Game[0];
+
+        AssignTrophiesBenchmark() {
+            super("trophies.assign");
+        }
+
+        @Override
+        public void prepare(int batchSize) {
+            games = new Game[batchSize];
+            for (int i = 0; i < batchSize; i++) {
+                games[i] = Fixtures.endedGame(3, Fixtures.SEED + i);
+            }
+        }
+
+        @Override
+        public long run(int index) {
+            Game game = games[index];
+            game.assignTrophies();
+            return game.getPlayers().getFirst().getJest().getCards().size();
+        }
+    }
+
+    private static class DeckBenchmark extends Benchmark {
+        private Deck[] decks = new Deck[0];
+
+        DeckBenchmark() {
+            super("deck.shuffleAndDeal");
+        }
+
+        @Override
+        public void prepare(int batchSize) {
+            decks = new Deck[batchSize];
+            for (int i = 0; i < batchSize; i++) {
+                decks[i] = new Deck(Fixtures.SEED + i);
+            }
+        }
+
+        @Override
+        public long run(int index) {
+            Deck deck = decks[index];
+            deck.shuffle();
+            long checksum = 0;
+            while (!deck.isEmpty()) {
+                checksum = checksum * 31 + deck.dealCard().getOrdinal();
+            }
+            return checksum;
+        }
+    }
+
+    private static class OfferBenchmark extends Benchmark {
+        private final PlayStrategy strategy;
+        private ArrayList<ArrayList<Card>> hands = new ArrayList<>();
+
+        OfferBenchmark(String name, PlayStrategy strategy) {
+            super(name);
+            this.strategy = strategy;
+            strategy.updateJest(Fixtures.jest(Fixtures.baseJestCards()));
+        }
+
+        @Override
+        public void prepare(int batchSize) {
+            hands = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                hands.add(Fixtures.hand());
+            }
+        }
+
+        @Override
+        public long run(int index) {
+            return strategy.setCardsToOffer(hands.get(index))[0].getOrdinal();
+        }
+    }
+
+    private static class ChooseBenchmark extends Benchmark {
+        private final PlayStrategy strategy;
+        private final ArrayList<Player> players;
+        private ArrayList<ArrayList<Offer>> offers = new ArrayList<>();
+        private ArrayList<Jest> jests = new ArrayList<>();
+
+        ChooseBenchmark(String name, PlayStrategy strategy) {
+            super(name);
+            this.strategy = strategy;
+            this.players = Fixtures.players(4);
+        }
+
+        @Override
+        public void prepare(int batchSize) {
+            offers = new ArrayList<>(batchSize);
+            jests = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                offers.add(Fixtures.offers(players));
+                jests.add(Fixtures.jest(Fixtures.baseJestCards()));
+            }
+        }
+
+        @Override
+        public long run(int index) {
+            strategy.updateJest(jests.get(index));
+            Offer chosen = strategy.chooseCard(offers.get(index));
+            return chosen == null ? -1 : chosen.getOwner().getName().length();
+        }
+    }
+
+    /**
+     * Partie complète à 4 IA ; l'opération d'index <code>i</code> joue la graine
+     * {@link Fixtures#SEED} + <code>i</code>.
+     */
+    private static class HeadlessGameBenchmark extends Benchmark {
+        private final GameConfiguration config;
+
+        HeadlessGameBenchmark() {
+            super("game.headless");
+            this.config = Fixtures.configuration(4);
+        }
+
+        @Override
+        public long run(int index) {
+            return GameEngine.play(config, Fixtures.SEED + index).getScore(0);
+        }
+    }
+}
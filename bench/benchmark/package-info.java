@@ -0,0 +1,26 @@
+/**
+ * Micro-benchmarks des chemins critiques du modèle.
+ * 
+ * <p>Ce module est compilé séparément de <code>src</code> (dont il dépend) et
+ * ne fait pas partie de l'application. Il mesure le coût des opérations
+ * appelées en boucle par les simulations : calcul de score, attribution des
+ * trophées, mélange et distribution du deck, comparaison des offres,
+ * stratégies des IA et partie complète sans interface.</p>
+ * 
+ * <p><b>Classes principales :</b></p>
+ * <ul>
+ *   <li>{@link benchmark.Benchmark} - Opération mesurée</li>
+ *   <li>{@link benchmark.BenchmarkRunner} - Chauffe, mesure et rapport</li>
+ *   <li>{@link benchmark.Fixtures} - Données de test à graine fixe</li>
+ *   <li>{@link benchmark.ModelBenchmarks} - Suite des benchmarks du modèle</li>
+ * </ul>
+ * 
+ * <p><b>Exécution :</b></p>
+ * <pre>
+ * javac -d out/bench -cp out/src $(find bench -name "*.java")
+ * java -cp out/src:out/bench benchmark.ModelBenchmarks filter=score iterations=10
+ * </pre>
+ * 
+ * @see model.simulation
+ */
+package benchmark;
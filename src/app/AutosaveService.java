@@ -0,0 +1,148 @@
+package app;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Écriture des sauvegardes en arrière-plan, sans bloquer le déroulement de la partie.
+ *
+ * <p>Le fil de jeu ne fait que remettre l'instantané de la partie, déjà encodé
+ * ({@link model.game.GameCodec}, quelques microsecondes) ; l'écriture sur le
+ * disque se fait sur un fil d'écriture unique.</p>
+ *
+ * <p><b>Écriture atomique :</b> l'instantané est écrit dans un fichier
+ * temporaire (<code>[fichier].tmp</code>), forcé sur le disque puis renommé
+ * sur le fichier final. Le journal de l'ancienne sauvegarde
+ * ({@link GameJournal}) n'est supprimé qu'après le renommage : un arrêt
+ * pendant l'écriture laisse l'ancienne sauvegarde et son journal intacts.</p>
+ *
+ * <p><b>Regroupement :</b> tant qu'un fichier attend son écriture, un nouvel
+ * instantané du même fichier remplace le précédent ; seul le plus récent est
+ * écrit quand le disque ne suit pas.</p>
+ *
+ * <p>Le fil d'écriture s'arrête quand il n'a plus rien à écrire ; à l'arrêt de
+ * la JVM, les écritures en attente sont terminées (cinq secondes au plus).</p>
+ *
+ * @see SaveManager#saveInBackground(model.game.Game, String)
+ * @see GameJournal
+ */
+public final class AutosaveService {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final ThreadPoolExecutor writer;
+    private final LinkedHashMap<Path, byte[]> pending = new LinkedHashMap<>();
+    private RuntimeException failure;
+
+    public AutosaveService() {
+        writer = new ThreadPoolExecutor(1, 1, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+            Thread thread = new Thread(task, "Jest-Autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.allowCoreThreadTimeOut(true);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::awaitAtShutdown, "Jest-Autosave-Shutdown"));
+    }
+
+    /**
+     * Programme l'écriture de <code>snapshot</code> dans <code>target</code> et rend la main aussitôt.
+     *
+     * @param snapshot contenu complet du fichier ; il ne doit plus être modifié
+     */
+    public void submit(Path target, byte[] snapshot) {
+        boolean queued;
+        synchronized (pending) {
+            queued = pending.put(target, snapshot) != null;
+        }
+        if (!queued) {
+            writer.execute(() -> write(target));
+        }
+    }
+
+    /**
+     * Attend la fin des écritures programmées avant l'appel.
+     *
+     * @throws RuntimeException si une écriture a échoué depuis le dernier appel
+     */
+    public void await() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for pending saves", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to wait for pending saves", e.getCause());
+        }
+        RuntimeException error;
+        synchronized (pending) {
+            error = failure;
+            failure = null;
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private void write(Path target) {
+        byte[] snapshot;
+        synchronized (pending) {
+            snapshot = pending.remove(target);
+        }
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            writeAtomically(target, snapshot);
+            Files.deleteIfExists(GameJournal.journalPath(target));
+        } catch (IOException e) {
+            RuntimeException error = new RuntimeException("Failed to save game to " + target.toAbsolutePath(), e);
+            System.err.println("Warning: " + error.getMessage() + ": " + e.getMessage());
+            synchronized (pending) {
+                if (failure == null) {
+                    failure = error;
+                }
+            }
+        }
+    }
+
+    private void awaitAtShutdown() {
+        try {
+            writer.submit(() -> { }).get(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            System.err.println("Warning: pending saves may not have been written: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Écrit <code>bytes</code> dans un fichier temporaire forcé sur le disque, puis le renomme sur <code>target</code>.
+     */
+    static void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
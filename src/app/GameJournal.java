@@ -0,0 +1,414 @@
+package app;
+
+import model.cards.Card;
+import model.cards.ExtensionCard;
+import model.game.ExtensionManager;
+import model.game.Game;
+import model.game.Round;
+import model.players.Offer;
+import model.players.Player;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Journal des événements d'une partie sauvegardée, pour la reprise après un arrêt brutal.
+ *
+ * <p>La première sauvegarde d'une partie écrit un instantané complet, en
+ * arrière-plan ({@link SaveManager#saveInBackground(Game, String)}) ; les événements suivants sont
+ * ajoutés en fin de journal (<code>game_[nom].journal</code>, à côté du fichier
+ * <code>.jest</code>) au lieu de réécrire toute la partie. Chaque écriture
+ * ne coûte que les quelques octets des événements du tour.</p>
+ *
+ * <p><b>Événements :</b></p>
+ * <ul>
+ *   <li>Distribution : place du joueur, ordinal de la carte</li>
+ *   <li>Offre : place du joueur, ordinaux des cartes visible et cachée</li>
+ *   <li>Choix : place du joueur, place du propriétaire de l'offre, face prise</li>
+ *   <li>Fin de tour (cartes restantes remises dans le deck) ou fin de sous-tour
+ *       Full Hand (cartes restantes reprises en main)</li>
+ *   <li>Extensions : empreinte des noms des extensions dans l'ordre de leurs
+ *       ordinaux, en tête du journal ; les ordinaux des extensions fournies par
+ *       {@link model.game.ExtensionProvider} peuvent changer d'un lancement à l'autre</li>
+ * </ul>
+ *
+ * <p><b>Lots :</b> les événements sont mis en mémoire et écrits ensemble, puis
+ * forcés sur le disque, à chaque fin de tour ou de sous-tour. Un lot est
+ * précédé de sa longueur et suivi de son CRC32 : un lot écrit à moitié lors
+ * d'un arrêt est ignoré à la relecture. Un arrêt en cours de tour ne perd donc
+ * que le tour en cours, et chaque lot relu ramène la partie à un point où les
+ * contrôleurs savent la reprendre. Le nouveau journal n'est créé (et
+ * l'ancien journal du même nom remplacé) qu'une fois l'instantané renommé sur
+ * le disque : un arrêt avant ce point laisse l'ancienne sauvegarde et son
+ * journal intacts.</p>
+ *
+ * <p><b>Reprise :</b> {@link SaveManager#load(String)} relit l'instantané puis
+ * rejoue les lots du journal ({@link #replay(Game, List)}). Un lot qui ne
+ * correspond pas à la partie (journal d'un autre instantané) arrête la relecture.</p>
+ *
+ * @see SaveManager
+ */
+public class GameJournal {
+    static final String EXTENSION = ".journal";
+
+    private static final int DEAL = 1;
+    private static final int OFFER = 2;
+    private static final int TAKE = 3;
+    private static final int ROUND_END = 4;
+    private static final int TURN_END = 5;
+    private static final int EXTENSIONS = 6;
+
+    private static final int EXTENSIONS_FINGERPRINT = extensionsFingerprint();
+
+    private final Game game;
+    private final ByteArrayOutputStream batch;
+    private Path savePath;
+    private FileChannel channel;
+    private boolean snapshotPending;
+
+    public GameJournal(Game game) {
+        this.game = game;
+        this.batch = new ByteArrayOutputStream(64);
+    }
+
+    /**
+     * @return {@code true} si une sauvegarde est en cours de journalisation
+     */
+    public boolean isActive() {
+        return savePath != null;
+    }
+
+    /**
+     * Sauvegarde la partie à une fin de tour ou de sous-tour.
+     *
+     * <p>Sous le nom de la sauvegarde en cours (ou sans nom), seul le journal est
+     * complété ; sous un autre nom, un nouvel instantané est écrit en arrière-plan
+     * et un nouveau journal commence dès que l'instantané est sur le disque. Une
+     * erreur d'écriture de l'instantané est signalée au prochain {@link #flush()},
+     * et la partie n'est alors plus journalisée.</p>
+     *
+     * @param saveName nom logique de sauvegarde (peut être vide)
+     */
+    public void save(String saveName) {
+        boolean sameSave = saveName == null || saveName.trim().isEmpty()
+                || SaveManager.savePath(saveName).equals(savePath);
+        if (isActive() && sameSave) {
+            flush();
+            return;
+        }
+        close();
+        savePath = SaveManager.saveInBackground(game, saveName);
+        snapshotPending = true;
+        batch.reset();
+        write(EXTENSIONS, EXTENSIONS_FINGERPRINT >>> 24, EXTENSIONS_FINGERPRINT >>> 16,
+                EXTENSIONS_FINGERPRINT >>> 8, EXTENSIONS_FINGERPRINT);
+    }
+
+    /**
+     * Enregistre les cartes distribuées depuis <code>deckBefore</code>, dans l'ordre de distribution.
+     *
+     * @param deckBefore ordinaux du deck avant la distribution ({@link model.cards.Deck#getOrdinals()})
+     */
+    public void dealt(int[] deckBefore) {
+        if (!isActive()) {
+            return;
+        }
+        int remaining = game.getDeck().getRemainingCount();
+        for (int i = deckBefore.length - 1; i >= remaining; i--) {
+            int ordinal = deckBefore[i];
+            write(DEAL, seatHolding(ordinal), ordinal);
+        }
+    }
+
+    public void offer(Offer offer) {
+        if (isActive() && offer != null) {
+            write(OFFER, seat(offer.getOwner()), offer.getFaceUpCard().getOrdinal(),
+                    offer.getFaceDownCard().getOrdinal());
+        }
+    }
+
+    /**
+     * @param player joueur ayant pris une carte dans <code>takenOffer</code>
+     */
+    public void take(Player player, Offer takenOffer) {
+        if (isActive() && takenOffer != null) {
+            write(TAKE, seat(player), seat(takenOffer.getOwner()), takenOffer.getFaceUpCard() == null ? 1 : 0);
+        }
+    }
+
+    /**
+     * Fin d'un tour standard, après le retour des cartes restantes dans le deck.
+     */
+    public void roundEnd() {
+        if (isActive()) {
+            write(ROUND_END);
+            flush();
+        }
+    }
+
+    /**
+     * Fin d'un sous-tour Full Hand, après le retour des cartes des offres dans les mains.
+     */
+    public void turnEnd() {
+        if (isActive()) {
+            write(TURN_END);
+            flush();
+        }
+    }
+
+    /**
+     * Écrit et force sur le disque les événements en attente, puis met à jour
+     * le résumé de la sauvegarde dans le catalogue (en arrière-plan).
+     *
+     * @throws RuntimeException si l'instantané ou le journal ne peut pas être écrit
+     */
+    public void flush() {
+        if (!isActive() || batch.size() == 0) {
+            return;
+        }
+        awaitSnapshot();
+        byte[] records = batch.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(records);
+        ByteBuffer buffer = ByteBuffer.allocate(records.length + 2 * Integer.BYTES);
+        buffer.putInt(records.length).put(records).putInt((int) crc.getValue()).flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write journal of " + savePath.toAbsolutePath(), e);
+        }
+        batch.reset();
+        SaveManager.journalFlushed(savePath, game);
+    }
+
+    /**
+     * Ferme le journal après l'écriture de l'instantané en cours ; les événements
+     * d'un tour inachevé sont abandonnés.
+     */
+    public void close() {
+        batch.reset();
+        try {
+            awaitSnapshot();
+        } catch (RuntimeException e) {
+            System.err.println("Warning: " + e.getMessage());
+        }
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                System.err.println("Warning: failed to close journal: " + e.getMessage());
+            }
+        }
+        channel = null;
+        savePath = null;
+    }
+
+    /**
+     * Attend que l'instantané soit renommé sur le disque, puis crée le journal.
+     */
+    private void awaitSnapshot() {
+        if (!snapshotPending) {
+            return;
+        }
+        snapshotPending = false;
+        Path path = savePath;
+        try {
+            SaveManager.awaitSaves();
+            channel = FileChannel.open(journalPath(path), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            // Sans instantané ni journal, la sauvegarde n'est plus journalisée.
+            savePath = null;
+            batch.reset();
+            if (e instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException("Failed to create journal for " + path.toAbsolutePath(), e);
+        }
+    }
+
+    private void write(int kind, int... fields) {
+        batch.write(kind);
+        for (int field : fields) {
+            batch.write(field);
+        }
+    }
+
+    private int seat(Player player) {
+        return game.getPlayers().indexOf(player);
+    }
+
+    private int seatHolding(int ordinal) {
+        ArrayList<Player> players = game.getPlayers();
+        for (int seat = 0; seat < players.size(); seat++) {
+            for (Card card : players.get(seat).getHand()) {
+                if (card.getOrdinal() == ordinal) {
+                    return seat;
+                }
+            }
+        }
+        throw new IllegalStateException("Dealt card not found in any hand: " + ordinal);
+    }
+
+    private static int extensionsFingerprint() {
+        CRC32 crc = new CRC32();
+        for (ExtensionCard extension : ExtensionManager.getExtensions()) {
+            crc.update(extension.getName().getBytes(StandardCharsets.UTF_8));
+            crc.update(0);
+        }
+        return (int) crc.getValue();
+    }
+
+    static Path journalPath(Path savePath) {
+        String name = savePath.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return savePath.resolveSibling((dot > 0 ? name.substring(0, dot) : name) + EXTENSION);
+    }
+
+    /**
+     * Relit les lots complets d'un journal ; la lecture s'arrête au premier lot tronqué ou corrompu.
+     *
+     * @return lots d'événements, vide si le journal n'existe pas
+     */
+    static List<byte[]> readBatches(Path journal) throws IOException {
+        ArrayList<byte[]> batches = new ArrayList<>();
+        try (InputStream file = Files.newInputStream(journal);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(file))) {
+            while (true) {
+                int length = in.readInt();
+                if (length <= 0 || length > 1 << 20) {
+                    break;
+                }
+                byte[] records = new byte[length];
+                in.readFully(records);
+                CRC32 crc = new CRC32();
+                crc.update(records);
+                if (in.readInt() != (int) crc.getValue()) {
+                    break;
+                }
+                batches.add(records);
+            }
+        } catch (NoSuchFileException | EOFException e) {
+            return batches;
+        }
+        return batches;
+    }
+
+    /**
+     * Rejoue des lots d'événements sur une partie chargée.
+     *
+     * @return nombre de lots appliqués ; s'il est inférieur au nombre de lots, le lot
+     *         suivant ne correspondait pas à la partie et a pu être appliqué en partie
+     */
+    static int replay(Game game, List<byte[]> batches) {
+        int applied = 0;
+        for (byte[] records : batches) {
+            try {
+                applyBatch(game, records);
+            } catch (RuntimeException e) {
+                return applied;
+            }
+            applied++;
+        }
+        return applied;
+    }
+
+    private static void applyBatch(Game game, byte[] records) {
+        ArrayList<Player> players = game.getPlayers();
+        Round round = new Round(players, game.getDeck(), game.getRoundCounter());
+        int i = 0;
+        while (i < records.length) {
+            switch (records[i]) {
+                case DEAL -> {
+                    Player player = players.get(records[i + 1]);
+                    int[] deck = game.getDeck().getOrdinals();
+                    if (deck.length == 0 || deck[deck.length - 1] != records[i + 2]) {
+                        throw new IllegalStateException("Journal does not match the deck");
+                    }
+                    player.addToHand(game.getDeck().dealCard());
+                    i += 3;
+                }
+                case OFFER -> {
+                    Player player = players.get(records[i + 1]);
+                    Card faceUp = cardInHand(player, records[i + 2]);
+                    Card faceDown = cardInHand(player, records[i + 3]);
+                    if (faceUp == faceDown) {
+                        throw new IllegalStateException("Journal does not match the hands");
+                    }
+                    player.getHand().remove(faceUp);
+                    player.getHand().remove(faceDown);
+                    Offer offer = new Offer(player, faceUp, faceDown);
+                    player.setOffer(offer);
+                    round.addOffer(offer);
+                    i += 4;
+                }
+                case TAKE -> {
+                    Player player = players.get(records[i + 1]);
+                    Offer offer = players.get(records[i + 2]).getOffer();
+                    boolean faceUp = records[i + 3] != 0;
+                    if (offer == null || (faceUp ? offer.getFaceUpCard() : offer.getFaceDownCard()) == null) {
+                        throw new IllegalStateException("Journal does not match the offers");
+                    }
+                    player.getJest().addCard(offer.takeCard(faceUp));
+                    i += 4;
+                }
+                case ROUND_END -> {
+                    round.returnRemainingCardsToDeck();
+                    game.nextRoundNumber();
+                    round = new Round(players, game.getDeck(), game.getRoundCounter());
+                    i++;
+                }
+                case TURN_END -> {
+                    for (Player player : players) {
+                        Offer offer = player.getOffer();
+                        if (offer != null) {
+                            if (offer.getFaceUpCard() != null) {
+                                player.addToHand(offer.getFaceUpCard());
+                            }
+                            if (offer.getFaceDownCard() != null) {
+                                player.addToHand(offer.getFaceDownCard());
+                            }
+                            player.setOffer(null);
+                        }
+                    }
+                    i++;
+                }
+                case EXTENSIONS -> {
+                    int fingerprint = (records[i + 1] & 0xFF) << 24 | (records[i + 2] & 0xFF) << 16
+                            | (records[i + 3] & 0xFF) << 8 | (records[i + 4] & 0xFF);
+                    if (fingerprint != EXTENSIONS_FINGERPRINT) {
+                        throw new IllegalStateException("Journal was written with other extensions");
+                    }
+                    i += 5;
+                }
+                default -> throw new IllegalStateException("Unknown journal event: " + records[i]);
+            }
+        }
+    }
+
+    private static Card cardInHand(Player player, int ordinal) {
+        for (Card card : player.getHand()) {
+            if (card.getOrdinal() == ordinal) {
+                return card;
+            }
+        }
+        throw new IllegalStateException("Journal does not match the hands");
+    }
+}
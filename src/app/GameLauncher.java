@@ -1,8 +1,23 @@
 package app;
 
 import controller.GameController;
+import model.cards.ExtensionCard;
+import model.game.ExtensionManager;
 import model.game.Game;
 import model.game.GameConfiguration;
+import model.game.GameSummary;
+import model.game.GameVariant;
+import model.game.variants.FullHandVariant;
+import model.game.variants.ReverseScoringVariant;
+import model.game.variants.StandardVariant;
+import model.players.strategies.MonteCarloStrategy;
+import model.players.strategies.SearchBudget;
+import model.players.strategies.StrategyType;
+import model.simulation.EndgameSolver;
+import model.simulation.GameResult;
+import model.simulation.ReplayLog;
+import model.simulation.TournamentResult;
+import model.simulation.TournamentRunner;
 import view.ViewFactory;
 import view.console.GameView;
 import view.console.RoundView;
@@ -14,10 +29,14 @@ import view.hybrid.RoundViewHybrid;
 import view.interfaces.IGameView;
 import view.interfaces.IRoundView;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.file.Path;
 
 import javax.swing.*;
 
@@ -63,9 +82,33 @@ public class GameLauncher {
      * crée (ou charge) le modèle de jeu et démarre le contrôleur principal.</p>
      *
      * @param args arguments de lancement ; l'option {@code --restart} redémarre une partie à partir
-     *             d'une configuration précédemment sauvegardée
+     *             d'une configuration précédemment sauvegardée, l'option {@code --tournament} lance
+     *             un tournoi entre IA sans interface (voir {@link #runTournament(String[])}),
+     *             l'option {@code --replay <fichier>} rejoue une partie enregistrée (voir {@link ReplayLog})
      */
     public static void main(String[] args) {
+        if (args.length > 0 && "--replay".equals(args[0])) {
+            if (args.length < 2) {
+                System.err.println("Usage: --replay <file>");
+                return;
+            }
+            try {
+                runReplay(Path.of(args[1]));
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Cannot replay " + args[1] + ": " + e.getMessage());
+            }
+            return;
+        }
+
+        if (args.length > 0 && "--tournament".equals(args[0])) {
+            try {
+                runTournament(args);
+            } catch (IllegalArgumentException e) {
+                System.err.println("Invalid tournament options: " + e.getMessage());
+            }
+            return;
+        }
+
         boolean isRestart = args.length > 0 && "--restart".equals(args[0]);
         GameMode mode = selectMode();
         currentMode = mode; 
@@ -136,11 +179,131 @@ public class GameLauncher {
     }
 
     
+    /**
+     * Lance un tournoi entre IA sans interface et affiche les statistiques par stratégie.
+     *
+     * <p>Options au format {@code cle=valeur} :</p>
+     * <ul>
+     *   <li>{@code games} - nombre de parties (défaut 10000), arrondi au multiple supérieur du nombre de rotations</li>
+     *   <li>{@code threads} - nombre de threads (défaut : nombre de cœurs)</li>
+     *   <li>{@code players} - nombre de joueurs par partie (défaut 4)</li>
+     *   <li>{@code variant} - {@code standard}, {@code reverse} ou {@code fullhand}</li>
+     *   <li>{@code strategies} - stratégies séparées par des virgules, réparties en rotation sur les places ;
+     *       chacune occupe chaque place aussi souvent que les autres (défaut : {@code random,aggressive,cautious},
+     *       les stratégies simulées étant bien plus lentes)</li>
+     *   <li>{@code extensions} - indices des extensions séparés par des virgules</li>
+     *   <li>{@code seed} - graine de base (défaut 0)</li>
+     *   <li>{@code playouts} - simulations par décision de {@link StrategyType#MONTE_CARLO} et {@link StrategyType#MCTS}</li>
+     *   <li>{@code endgame} - taille de main Full Hand à partir de laquelle ces stratégies résolvent la fin de partie (0 : jamais)</li>
+     * </ul>
+     *
+     * @param args arguments de lancement, le premier étant {@code --tournament}
+     */
+    private static void runTournament(String[] args) {
+        int games = 10000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int playerCount = 4;
+        long seed = 0L;
+        int playouts = MonteCarloStrategy.DEFAULT_PLAYOUTS;
+        int endgameHandLimit = EndgameSolver.DEFAULT_HAND_LIMIT;
+        GameVariant variant = new StandardVariant();
+        ArrayList<StrategyType> strategies = new ArrayList<>(
+                List.of(StrategyType.RANDOM, StrategyType.AGGRESSIVE, StrategyType.CAUTIOUS));
+        ArrayList<ExtensionCard> extensions = new ArrayList<>();
+
+        for (int i = 1; i < args.length; i++) {
+            String[] option = args[i].split("=", 2);
+            if (option.length != 2) {
+                throw new IllegalArgumentException("Invalid tournament option: " + args[i]);
+            }
+            String value = option[1].trim();
+            switch (option[0].trim().toLowerCase()) {
+                case "games" -> games = Integer.parseInt(value);
+                case "threads" -> threads = Integer.parseInt(value);
+                case "players" -> playerCount = Integer.parseInt(value);
+                case "seed" -> seed = Long.parseLong(value);
+                case "endgame" -> endgameHandLimit = Integer.parseInt(value);
+                case "playouts" -> playouts = Integer.parseInt(value);
+                case "variant" -> variant = switch (value.toLowerCase()) {
+                    case "standard" -> new StandardVariant();
+                    case "reverse" -> new ReverseScoringVariant();
+                    case "fullhand" -> new FullHandVariant();
+                    default -> throw new IllegalArgumentException("Unknown variant: " + value);
+                };
+                case "strategies" -> {
+                    strategies.clear();
+                    for (String name : value.split(",")) {
+                        strategies.add(StrategyType.valueOf(name.trim().toUpperCase()));
+                    }
+                }
+                case "extensions" -> {
+                    List<ExtensionCard> available = ExtensionManager.getExtensions();
+                    extensions.clear();
+                    for (String index : value.split(",")) {
+                        extensions.add(available.get(Integer.parseInt(index.trim())));
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown tournament option: " + option[0]);
+            }
+        }
+
+        // Chaque stratégie occupe chaque place aussi souvent que les autres :
+        // ppcm(stratégies, places) rotations, et un nombre de parties multiple de ce nombre.
+        int rotations = strategies.size() / gcd(strategies.size(), playerCount) * playerCount;
+        if (games % rotations != 0) {
+            games += rotations - games % rotations;
+            System.out.println("Game count rounded up to " + games + " so that every strategy plays every seat equally often.");
+        }
+
+        SearchBudget searchBudget = new SearchBudget(playouts, 0L, playouts, endgameHandLimit);
+        ArrayList<GameConfiguration> configs = new ArrayList<>();
+        for (int rotation = 0; rotation < rotations; rotation++) {
+            ArrayList<GameConfiguration.PlayerConfiguration> seats = new ArrayList<>();
+            for (int seat = 0; seat < playerCount; seat++) {
+                StrategyType strategy = strategies.get((seat + rotation) % strategies.size());
+                seats.add(new GameConfiguration.PlayerConfiguration("Bot" + (seat + 1), false, strategy));
+            }
+            configs.add(GameConfiguration.fromPlayerConfigs(seats, variant, extensions, searchBudget));
+        }
+
+        System.out.println("--- Jest Tournament ---");
+        System.out.println(games + " games, " + threads + " threads, " + playerCount + " players, "
+                + variant.getName() + " variant, strategies " + strategies + ", " + extensions.size() + " extension(s)");
+
+        TournamentResult result = new TournamentRunner(configs, games, threads, seed).run();
+        System.out.println(result);
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * Rejoue une partie enregistrée et affiche son déroulement.
+     *
+     * @param file journal écrit par {@link ReplayLog#write(Path)}
+     */
+    private static void runReplay(Path file) throws IOException {
+        ReplayLog log = ReplayLog.read(file);
+        System.out.println("--- Jest Replay ---");
+        System.out.println(log);
+        GameResult result = log.replay();
+        for (GameResult.RoundSummary round : result.getRounds()) {
+            System.out.println("Round " + round.getRoundNumber() + " (" + round.getStartingPlayer() + " starts)");
+            for (GameResult.Take take : round.getTakes()) {
+                System.out.println("  " + take);
+            }
+        }
+        System.out.println("Trophies: " + result.getTrophyAwards());
+        System.out.println(result);
+    }
+
     private static Game createGameFromConfiguration(GameConfiguration config) {
         Game game = new Game();
         
         
         game.setVariant(config.getVariant());
+        game.setSearchBudget(config.getSearchBudget());
         
         
         for (GameConfiguration.PlayerConfiguration playerConfig : config.getPlayerConfigs()) {
@@ -153,7 +316,17 @@ public class GameLauncher {
         
         
         if (!config.getSelectedExtensions().isEmpty()) {
-            game.getDeck().addExtensions(config.getSelectedExtensions());
+            ArrayList<ExtensionCard> extensions = new ArrayList<>();
+            for (ExtensionCard selected : config.getSelectedExtensions()) {
+                ExtensionCard card = ExtensionManager.getExtension(selected.getName());
+                if (card == null) {
+                    System.err.println("Warning: unknown extension " + selected.getName() + " ignored");
+                } else {
+                    extensions.add(card);
+                }
+            }
+            game.getDeck().addExtensions(extensions);
+            System.out.println(extensions.size() + " cartes d'extension ajoutées au paquet.");
         }
         
         
@@ -375,7 +548,8 @@ public class GameLauncher {
             return new Game();
         }
 
-        List<String> saves = SaveManager.listSaves();
+        Map<String, GameSummary> summaries = SaveManager.listSaveSummaries();
+        List<String> saves = new ArrayList<>(summaries.keySet());
         if (saves.isEmpty()) {
             System.out.println("No saves found in /saves. Starting a new game.");
             return new Game();
@@ -383,7 +557,7 @@ public class GameLauncher {
 
         System.out.println("Available saves:");
         for (int i = 0; i < saves.size(); i++) {
-            System.out.println((i + 1) + ". " + saves.get(i));
+            System.out.println((i + 1) + ". " + saveLabel(saves.get(i), summaries));
         }
         System.out.print("Select save (1-" + saves.size() + "): ");
 
@@ -408,7 +582,8 @@ public class GameLauncher {
     }
 
     private static Game loadGameGui(GameWindow gameWindow) {
-        List<String> saves = SaveManager.listSaves();
+        Map<String, GameSummary> summaries = SaveManager.listSaveSummaries();
+        List<String> saves = new ArrayList<>(summaries.keySet());
         if (saves.isEmpty()) {
             JOptionPane.showMessageDialog(
                     gameWindow != null ? gameWindow.getFrame() : null,
@@ -419,20 +594,30 @@ public class GameLauncher {
             return new Game();
         }
 
-        String selected = (String) JOptionPane.showInputDialog(
+        String[] labels = new String[saves.size()];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = saveLabel(saves.get(i), summaries);
+        }
+        Object selected = JOptionPane.showInputDialog(
                 gameWindow != null ? gameWindow.getFrame() : null,
                 "Select a save to load:",
                 "Load Game",
                 JOptionPane.QUESTION_MESSAGE,
                 null,
-                saves.toArray(new String[0]),
-                saves.getFirst()
+                labels,
+                labels[0]
         );
 
-        if (selected == null || selected.trim().isEmpty()) {
+        int idx = Arrays.asList(labels).indexOf(selected);
+        if (idx < 0) {
             return new Game();
         }
-        return SaveManager.load(selected);
+        return SaveManager.load(saves.get(idx));
+    }
+
+    private static String saveLabel(String fileName, Map<String, GameSummary> summaries) {
+        GameSummary summary = summaries.get(fileName);
+        return summary == null ? fileName : fileName + " - " + summary;
     }
 
     private static GameMode selectMode() {
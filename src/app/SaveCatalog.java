@@ -0,0 +1,107 @@
+package app;
+
+import model.game.GameCodec;
+import model.game.GameSummary;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Catalogue des sauvegardes : le résumé ({@link GameSummary}) de chaque fichier
+ * <code>.jest</code>, dans un seul fichier d'index (<code>saves/catalog.idx</code>).
+ *
+ * <p>Lister les sauvegardes avec leurs détails ne coûte ainsi qu'une lecture
+ * de l'index. Le catalogue est complété à chaque sauvegarde ; un fichier absent
+ * du catalogue (copié à la main, ancienne version) y est ajouté à sa première
+ * lecture.</p>
+ *
+ * <p><b>Format :</b> <code>JCAT</code>, version, nombre d'entrées, puis pour
+ * chacune le nom du fichier et le résumé encodé par {@link GameCodec#encodeSummary(GameSummary)}.
+ * Un index illisible est ignoré et reconstruit.</p>
+ *
+ * @see SaveManager#listSaveSummaries()
+ */
+final class SaveCatalog {
+    static final String FILE_NAME = "catalog.idx";
+
+    private static final int MAGIC = 0x4A434154;
+    private static final int VERSION = 1;
+
+    private final LinkedHashMap<String, GameSummary> entries = new LinkedHashMap<>();
+
+    /**
+     * @return catalogue lu dans <code>file</code>, vide si le fichier est absent ou illisible
+     */
+    static SaveCatalog read(Path file) {
+        SaveCatalog catalog = new SaveCatalog();
+        try (InputStream stream = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Unknown catalog format");
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String fileName = in.readUTF();
+                int length = in.readInt();
+                if (length < 0 || length > 1 << 16) {
+                    throw new IOException("Corrupted catalog entry: " + fileName);
+                }
+                byte[] summary = new byte[length];
+                in.readFully(summary);
+                catalog.entries.put(fileName, GameCodec.decodeSummary(summary));
+            }
+        } catch (NoSuchFileException e) {
+            return catalog;
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Warning: save catalog " + file + " is unreadable and will be rebuilt: " + e.getMessage());
+            return new SaveCatalog();
+        }
+        return catalog;
+    }
+
+    GameSummary get(String fileName) {
+        return entries.get(fileName);
+    }
+
+    void put(String fileName, GameSummary summary) {
+        entries.put(fileName, summary);
+    }
+
+    /**
+     * Retire les entrées des fichiers qui n'existent plus.
+     *
+     * @return {@code true} si des entrées ont été retirées
+     */
+    boolean retainAll(Collection<String> fileNames) {
+        return entries.keySet().retainAll(new HashSet<>(fileNames));
+    }
+
+    byte[] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * entries.size() + 12);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, GameSummary> entry : entries.entrySet()) {
+                byte[] summary = GameCodec.encodeSummary(entry.getValue());
+                out.writeUTF(entry.getKey());
+                out.writeInt(summary.length);
+                out.write(summary);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -1,16 +1,14 @@
 package app;
 
 import model.game.Game;
-import model.game.Round;
+import model.game.GameCodec;
+import model.game.GameSummary;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -19,7 +17,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Gestionnaire de sauvegarde et chargement de parties.
@@ -29,9 +29,12 @@ import java.util.List;
  * 
  * <p><b>Fonctionnalités :</b></p>
  * <ul>
- *   <li>Sauvegarde sérialisée de l'état complet du jeu</li>
+ *   <li>Sauvegarde binaire compacte de l'état complet du jeu ({@link GameCodec})</li>
+ *   <li>Écriture atomique (fichier temporaire puis renommage), éventuellement
+ *       en arrière-plan ({@link AutosaveService})</li>
  *   <li>Chargement et restauration d'une partie sauvegardée</li>
- *   <li>Listage des sauvegardes disponibles</li>
+ *   <li>Listage des sauvegardes disponibles, avec leur résumé ({@link GameSummary})
+ *       lu dans un catalogue ({@link SaveCatalog})</li>
  *   <li>Gestion automatique du répertoire de sauvegardes</li>
  * </ul>
  * 
@@ -40,6 +43,10 @@ import java.util.List;
  *   <li>Répertoire : <code>./saves/</code></li>
  *   <li>Extension : <code>.jest</code></li>
  *   <li>Nommage : <code>game_[nom]_[timestamp].jest</code></li>
+ *   <li>Contenu : format {@link GameCodec}, résumé en en-tête ; les anciennes
+ *       sauvegardes en sérialisation Java sont reconnues et chargées</li>
+ *   <li>Catalogue des résumés : <code>catalog.idx</code></li>
+ *   <li>Journal éventuel des tours suivants : <code>game_[nom].journal</code> ({@link GameJournal})</li>
  * </ul>
  * 
  * <p><b>Exemple d'utilisation :</b></p>
@@ -55,11 +62,17 @@ import java.util.List;
  * </pre>
  * 
  * @see model.game.Game
+ * @see GameJournal
  */
 public class SaveManager {
     private static final String SAVES_DIR_NAME = "saves";
     private static final String EXTENSION = ".jest";
 
+    private static final int SUMMARY_READ_LIMIT = 512;
+
+    private static AutosaveService autosave;
+    private static SaveCatalog catalog;
+
     private static Path ensureSavesDir() {
         Path dir = Paths.get(SAVES_DIR_NAME);
         try {
@@ -93,41 +106,187 @@ public class SaveManager {
     }
 
     /**
-     * Sauvegarde une partie sur disque en sérialisant l'objet {@link Game}.
+     * Sauvegarde une partie sur disque au format {@link GameCodec}.
      *
-     * <p>Le compteur de tours ({@link Round#getRoundCounter()}) est stocké dans le modèle
-     * avant la sérialisation afin de pouvoir être restauré lors du chargement.</p>
+     * <p>Le compteur de tours ({@link Game#getRoundCounter()}) fait partie du modèle
+     * et est donc sauvegardé avec la partie. Le fichier est écrit dans un fichier
+     * temporaire puis renommé ; le journal laissé par une sauvegarde précédente
+     * du même nom n'est supprimé qu'ensuite : une écriture interrompue laisse
+     * l'ancienne sauvegarde et son journal intacts.</p>
      *
      * @param game partie à sauvegarder
      * @param saveName nom logique de sauvegarde (peut être vide) ; sera normalisé et préfixé
+     * @return chemin du fichier écrit
      * @throws IllegalArgumentException si {@code game} est {@code null}
      * @throws RuntimeException si l'écriture échoue
      */
-    public static void save(Game game, String saveName) {
-        if (game == null) {
-            throw new IllegalArgumentException("game must not be null");
+    public static Path save(Game game, String saveName) {
+        Path path = prepareSave(game, saveName);
+        long savedAt = System.currentTimeMillis();
+        try {
+            AutosaveService.writeAtomically(path, GameCodec.encode(game, savedAt));
+            Files.deleteIfExists(GameJournal.journalPath(path));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new RuntimeException("Failed to save game to " + path.toAbsolutePath(), e);
         }
+        updateCatalog(path, GameSummary.of(game, savedAt));
+        return path;
+    }
 
-        game.setSavedRoundCounter(Round.getRoundCounter());
+    /**
+     * Comme {@link #save(Game, String)}, mais seul l'instantané de la partie est pris
+     * sur le fil appelant ; le fichier est écrit en arrière-plan par un {@link AutosaveService},
+     * qui supprime l'ancien journal du même nom une fois l'instantané renommé.
+     *
+     * <p>Les erreurs d'écriture sont signalées par le prochain {@link #awaitSaves()}.</p>
+     *
+     * @return chemin du fichier qui sera écrit
+     * @throws IllegalArgumentException si {@code game} est {@code null} ou ne peut pas être encodée
+     */
+    public static Path saveInBackground(Game game, String saveName) {
+        Path path = prepareSave(game, saveName);
+        long savedAt = System.currentTimeMillis();
+        byte[] snapshot = GameCodec.encode(game, savedAt);
+        synchronized (SaveManager.class) {
+            autosave().submit(path, snapshot);
+        }
+        updateCatalog(path, GameSummary.of(game, savedAt));
+        return path;
+    }
 
-        String baseName = buildBaseName(saveName);
-        String fileName = baseName.endsWith(EXTENSION) ? baseName : baseName + EXTENSION;
+    /**
+     * Attend la fin des sauvegardes programmées par {@link #saveInBackground(Game, String)}.
+     *
+     * @throws RuntimeException si une de ces sauvegardes a échoué
+     */
+    public static void awaitSaves() {
+        AutosaveService service;
+        synchronized (SaveManager.class) {
+            service = autosave;
+        }
+        if (service != null) {
+            service.await();
+        }
+    }
 
+    /**
+     * Liste les sauvegardes avec leur résumé.
+     *
+     * <p>Les résumés sont lus dans le catalogue des sauvegardes ; seuls les
+     * fichiers absents du catalogue sont ouverts (en-tête seulement, ou
+     * chargement complet d'une ancienne sauvegarde), puis ajoutés au catalogue.
+     * Le catalogue est mis à jour à chaque sauvegarde, y compris à chaque lot
+     * écrit dans le journal d'une partie ({@link GameJournal}).</p>
+     *
+     * @return résumé de chaque sauvegarde, par nom de fichier dans l'ordre de
+     *         {@link #listSaves()} ; {@code null} pour un fichier illisible
+     */
+    public static Map<String, GameSummary> listSaveSummaries() {
+        List<String> saves = listSaves();
         Path dir = ensureSavesDir();
-        Path path = dir.resolve(fileName);
+        LinkedHashMap<String, GameSummary> summaries = new LinkedHashMap<>();
+        synchronized (SaveManager.class) {
+            SaveCatalog catalog = catalog(dir);
+            boolean changed = catalog.retainAll(saves);
+            for (String fileName : saves) {
+                GameSummary summary = catalog.get(fileName);
+                if (summary == null) {
+                    summary = readSummary(dir.resolve(fileName));
+                    if (summary != null) {
+                        catalog.put(fileName, summary);
+                        changed = true;
+                    }
+                }
+                summaries.put(fileName, summary);
+            }
+            if (changed) {
+                autosave().submit(dir.resolve(SaveCatalog.FILE_NAME), catalog.toByteArray());
+            }
+        }
+        return summaries;
+    }
 
-        try (ObjectOutputStream oos = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(path.toFile())))) {
-            oos.writeObject(game);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to save game to " + path.toAbsolutePath(), e);
+    private static AutosaveService autosave() {
+        if (autosave == null) {
+            autosave = new AutosaveService();
         }
+        return autosave;
+    }
+
+    private static SaveCatalog catalog(Path dir) {
+        if (catalog == null) {
+            catalog = SaveCatalog.read(dir.resolve(SaveCatalog.FILE_NAME));
+        }
+        return catalog;
+    }
+
+    /**
+     * Met à jour le résumé d'une sauvegarde dont le journal vient d'être complété.
+     *
+     * @param path fichier de l'instantané journalisé
+     */
+    static void journalFlushed(Path path, Game game) {
+        updateCatalog(path, GameSummary.of(game, System.currentTimeMillis()));
+    }
+
+    /**
+     * Ajoute une sauvegarde au catalogue ; l'index est réécrit en arrière-plan.
+     */
+    private static void updateCatalog(Path path, GameSummary summary) {
+        Path dir = path.getParent();
+        synchronized (SaveManager.class) {
+            SaveCatalog catalog = catalog(dir);
+            catalog.put(path.getFileName().toString(), summary);
+            autosave().submit(dir.resolve(SaveCatalog.FILE_NAME), catalog.toByteArray());
+        }
+    }
+
+    private static GameSummary readSummary(Path path) {
+        try {
+            byte[] prefix;
+            try (InputStream in = Files.newInputStream(path)) {
+                prefix = in.readNBytes(SUMMARY_READ_LIMIT);
+            }
+            if (!GameCodec.isEncoded(prefix)) {
+                return GameSummary.of(readLegacyGame(path, Files.readAllBytes(path)),
+                        Files.getLastModifiedTime(path).toMillis());
+            }
+            try {
+                return GameCodec.readSummary(prefix);
+            } catch (IllegalArgumentException e) {
+                return GameCodec.readSummary(Files.readAllBytes(path));
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Warning: cannot read summary of " + path.getFileName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static Path prepareSave(Game game, String saveName) {
+        if (game == null) {
+            throw new IllegalArgumentException("game must not be null");
+        }
+
+        return savePath(saveName);
+    }
+
+    static Path savePath(String saveName) {
+        String baseName = buildBaseName(saveName);
+        String fileName = baseName.endsWith(EXTENSION) ? baseName : baseName + EXTENSION;
+        return ensureSavesDir().resolve(fileName);
     }
 
     /**
      * Charge une partie depuis un fichier de sauvegarde.
      *
-     * <p>Après désérialisation, le compteur de tours statique de {@link Round} est
-     * réinitialisé à la valeur stockée dans la sauvegarde.</p>
+     * <p>Le compteur de tours est restauré avec la partie ; plusieurs parties chargées
+     * dans la même JVM conservent chacune leur propre numérotation.</p>
+     *
+     * <p>Si la sauvegarde a un journal ({@link GameJournal}), ses lots complets sont
+     * rejoués sur la partie chargée. Les lots qui ne correspondent pas à la
+     * partie sont ignorés avec un avertissement.</p>
+     *
+     * <p>Les sauvegardes encore en cours d'écriture en arrière-plan sont attendues avant la lecture.</p>
      *
      * @param fileName nom du fichier de sauvegarde (relatif au répertoire {@code saves})
      * @return partie chargée
@@ -139,15 +298,53 @@ public class SaveManager {
             throw new IllegalArgumentException("fileName must not be empty");
         }
 
+        awaitSaves();
         Path dir = ensureSavesDir();
         Path path = dir.resolve(fileName);
 
-        try (ObjectInputStream ois = new ObjectInputStream(new BufferedInputStream(new FileInputStream(path.toFile())))) {
-            Object obj = ois.readObject();
-            Game game = (Game) obj;
+        Game game = readGame(path);
+        List<byte[]> batches;
+        try {
+            batches = GameJournal.readBatches(GameJournal.journalPath(path));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read journal of " + path.toAbsolutePath(), e);
+        }
+        if (!batches.isEmpty()) {
+            int applied = GameJournal.replay(game, batches);
+            if (applied < batches.size()) {
+                System.err.println("Warning: " + (batches.size() - applied) + " journal batch(es) of " + fileName
+                        + " do not match the saved game and were ignored");
+                game = readGame(path);
+                GameJournal.replay(game, batches.subList(0, applied));
+            }
+        }
+        return game;
+    }
+
+    private static Game readGame(Path path) {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load game from " + path.toAbsolutePath(), e);
+        }
+        if (GameCodec.isEncoded(bytes)) {
+            try {
+                return GameCodec.decode(bytes);
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Failed to load game from " + path.toAbsolutePath(), e);
+            }
+        }
+        return readLegacyGame(path, bytes);
+    }
 
-            Round.setRoundCounter(game.getSavedRoundCounter());
-            return game;
+    /**
+     * Relit une sauvegarde écrite en sérialisation Java par les versions précédentes.
+     */
+    private static Game readLegacyGame(Path path, byte[] bytes) {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            Object obj = ois.readObject();
+            return (Game) obj;
         } catch (IOException | ClassNotFoundException e) {
             throw new RuntimeException("Failed to load game from " + path.toAbsolutePath(), e);
         } catch (ClassCastException e) {
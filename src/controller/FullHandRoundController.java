@@ -1,6 +1,6 @@
 package controller;
 
-import app.SaveManager;
+import app.GameJournal;
 import view.interfaces.IGameView;
 import view.interfaces.IRoundView;
 import view.interfaces.IPlayerView;
@@ -32,6 +32,10 @@ import java.util.Map;
  *   <li>Dernière carte automatiquement ajoutée au Jest</li>
  * </ul>
  * 
+ * <p>Les événements de chaque sous-tour sont transmis au {@link GameJournal}
+ * de la partie : une sauvegarde après un sous-tour ne fait que compléter le
+ * journal au lieu de réécrire toute la partie.</p>
+ * 
  * @see controller.RoundController
  * @see model.game.FullHandRound
  * @see model.game.variants.FullHandVariant
@@ -43,9 +47,16 @@ public class FullHandRoundController {
     private final Game gameModel;
     private final Map<Player, PlayerController> playerControllers;
     private final ViewFactory viewFactory;
+    private final GameJournal journal;
 
     public FullHandRoundController(FullHandRound model, IRoundView view, ViewFactory viewFactory, Game gameModel, IGameView gameView) {
+        this(model, view, viewFactory, gameModel, gameView, new GameJournal(gameModel));
+    }
+
+    public FullHandRoundController(FullHandRound model, IRoundView view, ViewFactory viewFactory, Game gameModel,
+            IGameView gameView, GameJournal journal) {
         this.model = model;
+        this.journal = journal;
         this.view = view;
         this.viewFactory = viewFactory;
         this.gameModel = gameModel;
@@ -85,7 +96,9 @@ public class FullHandRoundController {
 
         
         view.showDealCards();
+        int[] deckBefore = model.getDeck().getOrdinals();
         model.distributeAllCards();
+        journal.dealt(deckBefore);
 
         
         showInitialDistribution(model.getInitialCardsPerPlayer());
@@ -98,7 +111,7 @@ public class FullHandRoundController {
             try {
                 if (gameView != null && gameView.askSaveAfterRound()) {
                     String saveName = gameView.askSaveName();
-                    SaveManager.save(gameModel, saveName);
+                    journal.save(saveName);
                 }
             } catch (Exception e) {
                 
@@ -126,6 +139,7 @@ public class FullHandRoundController {
 
         
         returnRemainingOfferCards();
+        journal.turnEnd();
 
         
         if (model.isOver()) {
@@ -162,6 +176,7 @@ public class FullHandRoundController {
 
             PlayerController controller = getController(currentPlayer);
             Offer takenOffer = controller.chooseCard(availableOffers);
+            journal.take(currentPlayer, takenOffer);
 
             if (takenOffer != null) {
                 handleTakenOffer(currentPlayer, takenOffer);
@@ -187,6 +202,7 @@ public class FullHandRoundController {
             Offer offer = controller.makeOffer();
             if (offer != null) {
                 model.addOffer(offer);
+                journal.offer(offer);
             } else {
                 System.err.println("Warning: Player " + player.getName() + " returned null offer");
             }
@@ -255,11 +271,11 @@ public class FullHandRoundController {
     /**
      * Retourne le compteur de tour courant.
      *
-     * <p>Le compteur est géré au niveau du modèle via un compteur statique dans {@link Round}.</p>
+     * <p>Le numéro est attribué par la {@link Game} lors de la création du {@link Round}.</p>
      *
      * @return numéro du tour courant
      */
     public int getRoundCounter() {
-        return Round.getRoundCounter();
+        return model.getRoundNumber();
     }
 }
@@ -1,6 +1,6 @@
 package controller;
 
-import app.SaveManager;
+import app.GameJournal;
 import app.GameConfigurationManager;
 import model.cards.ExtensionCard;
 import model.game.ExtensionManager;
@@ -47,6 +47,9 @@ import java.util.List;
  *   <li>Annonce du/des gagnant(s)</li>
  * </ol>
  * 
+ * <p><b>Sauvegardes :</b> la première sauvegarde écrit la partie complète ;
+ * les suivantes sous le même nom complètent son {@link GameJournal}.</p>
+ * 
  * @see model.game.Game
  * @see model.game.GameVariant
  * @see view.interfaces.IGameView
@@ -58,9 +61,11 @@ public class GameController {
     private final ViewFactory viewFactory;
     private GameConfiguration gameConfiguration;
     private ArrayList<ExtensionCard> selectedExtensions;
+    private final GameJournal journal;
 
     public GameController(Game model, IGameView gameView, IRoundView roundView, ViewFactory viewFactory) {
         this.model = model;
+        this.journal = new GameJournal(model);
         this.gameView = gameView;
         this.roundView = roundView;
         this.viewFactory = viewFactory;
@@ -151,12 +156,12 @@ public class GameController {
 
     
     private void handleExtensions() {
-        ArrayList<ExtensionCard> availableExtensions = ExtensionManager.getAvailableExtensions();
+        List<ExtensionCard> registered = ExtensionManager.getExtensions();
         boolean validSelection = false;
 
         while (!validSelection) {
             
-            ArrayList<Integer> selectedIndices = gameView.askForExtensions(availableExtensions);
+            ArrayList<Integer> selectedIndices = gameView.askForExtensions(new ArrayList<>(registered));
 
             
             int playerCount = model.getPlayers().size();
@@ -173,13 +178,14 @@ public class GameController {
                     System.out.println("Validation OK. Adding cards to the deck:");
 
                     for (int index : selectedIndices) {
-                        ExtensionCard card = availableExtensions.get(index);
+                        ExtensionCard card = registered.get(index);
                         cardsToAdd.add(card);
                         selectedExtensions.add(card); 
                         System.out.println(" [+] " + card.getName());
                     }
 
                     model.getDeck().addExtensions(cardsToAdd);
+                    System.out.println(cardsToAdd.size() + " cartes d'extension ajoutées au paquet.");
                 } else {
                     System.out.println("No extensions selected. Standard game.");
                 }
@@ -212,13 +218,15 @@ public class GameController {
     
     private void playFullHandGame() {
         
-        FullHandRound fullHandRound = new FullHandRound(model.getPlayers(), model.getDeck());
+        FullHandRound fullHandRound = new FullHandRound(model.getPlayers(), model.getDeck(), model.nextRoundNumber());
+        model.setCurrentRound(fullHandRound);
         FullHandRoundController roundController = new FullHandRoundController(
             fullHandRound,
             roundView,
             viewFactory,
             model,
-            gameView
+            gameView,
+            journal
         );
 
         int roundNumber = roundController.getRoundCounter();
@@ -255,7 +263,7 @@ public class GameController {
         
         if (gameView.askSaveAfterRound()) {
             String saveName = gameView.askSaveName();
-            SaveManager.save(model, saveName);
+            journal.save(saveName);
         }
         
         endGame();
@@ -264,10 +272,13 @@ public class GameController {
     
     private void playStandardGame() {
         while (!model.getDeck().isEmpty()) {
+            Round round = new Round(model.getPlayers(), model.getDeck(), model.nextRoundNumber());
+            model.setCurrentRound(round);
             RoundController roundController = new RoundController(
-                    new Round(model.getPlayers(), model.getDeck()),
+                    round,
                     roundView,
-                    viewFactory
+                    viewFactory,
+                    journal
             );
 
             int roundNumber = roundController.getRoundCounter();
@@ -302,7 +313,7 @@ public class GameController {
 
             if (!model.getDeck().isEmpty() && gameView.askSaveAfterRound()) {
                 String saveName = gameView.askSaveName();
-                SaveManager.save(model, saveName);
+                journal.save(saveName);
             }
 
             if (model.getDeck().isEmpty())
@@ -340,6 +351,7 @@ public class GameController {
      * un redémarrage avec les mêmes paramètres.</p>
      */
     public void endGame() {
+        journal.close();
         for (Player player : model.getPlayers()) {
             if (player.getOffer() != null) {
                 player.takeRemainingOfferCard();
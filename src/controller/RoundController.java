@@ -1,5 +1,6 @@
 package controller;
 
+import app.GameJournal;
 import view.interfaces.IRoundView;
 import view.ViewFactory;
 import model.players.Offer;
@@ -34,6 +35,9 @@ import java.util.Map;
  *   <li>Si ce joueur a déjà joué, on passe au joueur avec la carte visible la plus forte</li>
  * </ul>
  * 
+ * <p>Les distributions, offres et choix sont transmis au {@link GameJournal}
+ * de la partie, s'il y en a un ; la fin du tour l'écrit sur le disque.</p>
+ * 
  * @see model.game.Round
  * @see view.interfaces.IRoundView
  */
@@ -42,9 +46,15 @@ public class RoundController {
     private IRoundView view;
     private final Map<Player, PlayerController> playerControllers;
     private final ViewFactory viewFactory;
+    private final GameJournal journal;
 
     public RoundController(Round model, IRoundView view, ViewFactory viewFactory) {
+        this(model, view, viewFactory, null);
+    }
+
+    public RoundController(Round model, IRoundView view, ViewFactory viewFactory, GameJournal journal) {
         this.model = model;
+        this.journal = journal;
         this.view = view;
         this.viewFactory = viewFactory;
         this.playerControllers = new HashMap<>();
@@ -71,13 +81,17 @@ public class RoundController {
     }
 
     public int getRoundCounter() {
-        return Round.getRoundCounter();
+        return model.getRoundNumber();
     }
 
     private void makeOffersPhase(){
         for (Player player: model.getPlayers()){
             PlayerController controller = getController(player);
-            model.addOffer(controller.makeOffer());
+            Offer offer = controller.makeOffer();
+            model.addOffer(offer);
+            if (journal != null) {
+                journal.offer(offer);
+            }
 
         }
     }
@@ -94,7 +108,11 @@ public class RoundController {
         view.showRoundStart();
 
         view.showDealCards();
+        int[] deckBefore = model.getDeck().getOrdinals();
         model.dealCards();
+        if (journal != null) {
+            journal.dealt(deckBefore);
+        }
 
         view.showMakeOffers();
         makeOffersPhase();
@@ -143,6 +161,9 @@ public class RoundController {
 
             PlayerController controller = getController(currentPlayer);
             Offer takenOffer = controller.chooseCard(availableOffers);
+            if (journal != null) {
+                journal.take(currentPlayer, takenOffer);
+            }
 
             if (takenOffer != null) {
                 boolean isBotTurn = currentPlayer.isVirtual();
@@ -184,6 +205,9 @@ public class RoundController {
     public void endRound(){
         model.returnRemainingCardsToDeck();
         model.setIsOver(true);
+        if (journal != null) {
+            journal.roundEnd();
+        }
         view.showRoundEnd();
     }
 }
@@ -1,25 +1,31 @@
 package model.cards;
 
+import model.game.ExtensionManager;
+
 import java.io.Serializable;
 
 /**
  * Classe abstraite représentant une carte du jeu.
  * 
- * <p>Cette classe est la base de toutes les cartes du jeu Jest.
- * Elle gère les propriétés communes comme le statut de trophée et
- * les informations associées.</p>
+ * <p>Cette classe est la base de toutes les cartes du jeu Jest.</p>
  * 
- * <p><b>Propriétés communes :</b></p>
- * <ul>
- *   <li><code>isTrophy</code> - Indique si la carte est un trophée</li>
- *   <li><code>trophyType</code> - Type de trophée (si applicable)</li>
- *   <li><code>trophySuit/Face</code> - Critère du trophée</li>
- * </ul>
+ * <p><b>Cartes immuables :</b> une carte n'a aucun état propre à une partie.
+ * Chaque carte existe en un seul exemplaire partagé par toutes les parties
+ * de la JVM ({@link SuitCard#of(Suit, Face)}, {@link Joker#INSTANCE}, cartes
+ * d'extension de {@link model.game.ExtensionManager}) ; la désérialisation
+ * rend ces mêmes exemplaires.</p>
+ * 
+ * <p><b>Trophée :</b> la condition de trophée d'une carte ne dépend que de
+ * la carte ; elle est décrite par {@link Trophy#of(Card)}. Les accesseurs
+ * <code>getTrophyType()</code>, <code>getTrophySuit()</code>,
+ * <code>getTrophyFace()</code> et <code>trophyInfo()</code> en sont des
+ * raccourcis.</p>
  * 
  * <p><b>Méthodes abstraites :</b></p>
  * <ul>
  *   <li><code>getFaceValue()</code> - Valeur nominale de la carte</li>
  *   <li><code>getSuitValue()</code> - Force de la couleur</li>
+ *   <li><code>getOrdinal()</code> - Identifiant compact stable (voir {@link CardMask})</li>
  * </ul>
  * 
  * <p><b>Sérialisable</b> pour permettre la sauvegarde des parties.</p>
@@ -27,74 +33,42 @@ import java.io.Serializable;
  * @see model.cards.SuitCard
  * @see model.cards.Joker
  * @see model.cards.ExtensionCard
+ * @see model.cards.Trophy
  */
 public abstract class Card implements Serializable {
     private static final long serialVersionUID = 1L;
-    protected boolean isTrophy;
-    protected TrophyType trophyType;
-    protected Suit trophySuit;
-    protected Face trophyFace;
-
-    public Card(boolean isTrophy) {
-        this.isTrophy = isTrophy;
-        this.trophyType = TrophyType.NONE;
-        this.trophyFace = null;
-        this.trophySuit = null;
-    }
-
-    public boolean isTrophy(){
-        return isTrophy;
-    }
 
-    public void setTrophy(boolean isTrophy){
-        this.isTrophy = isTrophy;
+    protected Card() {
     }
 
-    public TrophyType getTrophyType(){
-        return trophyType;
-    }
-
-    public void setTrophyType(TrophyType trophy){
-        this.trophyType = trophy;
+    /**
+     * @return exemplaire partagé de la carte d'ordinal <code>ordinal</code>, ou {@code null} si aucune carte connue
+     */
+    public static Card of(int ordinal) {
+        return ordinal < 0 || ordinal > CardMask.MAX_ORDINAL ? null : ByOrdinal.CARDS[ordinal];
     }
 
-    public void setTrophySuit(Suit suit){
-        this.trophySuit = suit;
+    /**
+     * @return condition de trophée de cette carte ({@link Trophy#NONE} pour une carte d'extension)
+     */
+    public Trophy getTrophy() {
+        return Trophy.of(this);
     }
 
-    public void setTrophyFace(Face trophyFace){
-        this.trophyFace = trophyFace;
+    public TrophyType getTrophyType(){
+        return getTrophy().getType();
     }
 
     public Suit getTrophySuit(){
-        return trophySuit;
+        return getTrophy().getSuit();
     }
 
     public Face getTrophyFace(){
-        return trophyFace;
-    }
-
-    private boolean hasTrophySuit() {
-        return trophySuit != null;
-    }
-    private boolean hasTrophyFace() {
-        return trophyFace != null;
+        return getTrophy().getFace();
     }
 
     public String trophyInfo() {
-        if (trophyType == null || trophyType == TrophyType.NONE) {
-            return "Not a trophy";
-        }
-        if (hasTrophySuit()) {
-            return trophyType + " of " + trophySuit;
-        }
-
-        if (hasTrophyFace()) {
-            return trophyType + " of " + trophyFace;
-        }
-
-        return trophyType.toString();
-
+        return getTrophy().toString();
     }
 
     public int getCardStrength(){
@@ -111,7 +85,27 @@ public abstract class Card implements Serializable {
         return value;
     }
 
+    public long getMask() {
+        return CardMask.bit(getOrdinal());
+    }
+
     public abstract int getFaceValue();
 
     public abstract int getSuitValue();
+
+    public abstract int getOrdinal();
+
+    private static final class ByOrdinal {
+        private static final Card[] CARDS = new Card[CardMask.MAX_ORDINAL + 1];
+
+        static {
+            for (int ordinal = 0; ordinal < CardMask.SUIT_CARD_COUNT; ordinal++) {
+                CARDS[ordinal] = SuitCard.of(CardMask.suitOf(ordinal), CardMask.faceOf(ordinal));
+            }
+            CARDS[CardMask.JOKER_ORDINAL] = Joker.INSTANCE;
+            for (ExtensionCard extension : ExtensionManager.getExtensions()) {
+                CARDS[extension.getOrdinal()] = extension;
+            }
+        }
+    }
 }
@@ -0,0 +1,107 @@
+package model.cards;
+
+/**
+ * Encodage compact des cartes sous forme de masque de bits.
+ *
+ * <p>Chaque carte connue possède un ordinal stable ({@link Card#getOrdinal()}),
+ * ce qui permet de représenter un ensemble de cartes (Jest, main, deck) par un
+ * simple <code>long</code>.</p>
+ *
+ * <p><b>Ordinaux :</b></p>
+ * <ul>
+ *   <li>0 à 15 : cartes à couleur, <code>couleur * 4 + valeur</code> dans l'ordre des énumérations</li>
+ *   <li>16 : Joker</li>
+ *   <li>17 et plus : cartes d'extension, dans l'ordre de {@link model.game.ExtensionManager}</li>
+ * </ul>
+ *
+ * <p>Une carte d'extension inconnue a l'ordinal <code>-1</code> et un masque nul.</p>
+ *
+ * <p><b>Exemple :</b></p>
+ * <pre>
+ * long jest = CardMask.of(cards);
+ * boolean hasJoker = CardMask.contains(jest, CardMask.JOKER_ORDINAL);
+ * int spades = CardMask.count(jest &amp; CardMask.suitMask(Suit.SPADES));
+ * </pre>
+ *
+ * @see model.cards.Card#getOrdinal()
+ */
+public final class CardMask {
+    public static final int SUIT_CARD_COUNT = 16;
+    public static final int JOKER_ORDINAL = 16;
+    public static final int FIRST_EXTENSION_ORDINAL = 17;
+    public static final int MAX_ORDINAL = 63;
+
+    public static final long SUIT_CARDS_MASK = (1L << SUIT_CARD_COUNT) - 1;
+    public static final long JOKER_BIT = 1L << JOKER_ORDINAL;
+    public static final long BASE_DECK_MASK = SUIT_CARDS_MASK | JOKER_BIT;
+    public static final long EXTENSIONS_MASK = ~BASE_DECK_MASK;
+
+    private static final int FACES_PER_SUIT = Face.values().length;
+    private static final long[] SUIT_MASKS = new long[Suit.values().length];
+    private static final long[] FACE_MASKS = new long[FACES_PER_SUIT];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Face face : Face.values()) {
+                long bit = bit(suit, face);
+                SUIT_MASKS[suit.ordinal()] |= bit;
+                FACE_MASKS[face.ordinal()] |= bit;
+            }
+        }
+    }
+
+    private CardMask() {
+    }
+
+    public static int ordinal(Suit suit, Face face) {
+        return suit.ordinal() * FACES_PER_SUIT + face.ordinal();
+    }
+
+    public static long bit(Suit suit, Face face) {
+        return 1L << ordinal(suit, face);
+    }
+
+    public static long bit(int ordinal) {
+        return ordinal < 0 ? 0L : 1L << ordinal;
+    }
+
+    public static long suitMask(Suit suit) {
+        return SUIT_MASKS[suit.ordinal()];
+    }
+
+    public static long faceMask(Face face) {
+        return FACE_MASKS[face.ordinal()];
+    }
+
+    public static Suit suitOf(int ordinal) {
+        return Suit.values()[ordinal / FACES_PER_SUIT];
+    }
+
+    public static Face faceOf(int ordinal) {
+        return Face.values()[ordinal % FACES_PER_SUIT];
+    }
+
+    public static boolean contains(long mask, int ordinal) {
+        return (mask & bit(ordinal)) != 0;
+    }
+
+    public static int count(long mask) {
+        return Long.bitCount(mask);
+    }
+
+    /**
+     * Calcule le masque d'une collection de cartes.
+     *
+     * @param cards cartes à encoder (les éléments {@code null} sont ignorés)
+     * @return masque des cartes ayant un ordinal connu
+     */
+    public static long of(Iterable<? extends Card> cards) {
+        long mask = 0L;
+        for (Card card : cards) {
+            if (card != null) {
+                mask |= card.getMask();
+            }
+        }
+        return mask;
+    }
+}
@@ -1,9 +1,16 @@
 package model.cards;
 
+import model.game.ExtensionManager;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.List;
 import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Représente le paquet de cartes du jeu.
@@ -27,40 +34,120 @@ import java.util.Random;
  *   <li>Suivi du nombre de cartes restantes</li>
  * </ul>
  * 
- * <p><b>Sérialisable</b> pour la sauvegarde de parties.</p>
+ * <p><b>Stockage compact :</b> le paquet est une pile d'ordinaux
+ * (<code>byte[]</code>, sommet en fin de tableau) ; les cartes étant des
+ * exemplaires uniques ({@link Card}), une table par ordinal suffit à les
+ * retrouver. Les cartes restantes sont également suivies sous forme de
+ * masque ({@link CardMask}) pour les tests d'appartenance.</p>
+ * 
+ * <p><b>Empreinte :</b> l'empreinte de Zobrist de l'ensemble des cartes
+ * restantes ({@link #getZobristHash()}) suit chaque distribution et chaque
+ * retour de carte ; l'ordre du paquet n'y figure pas.</p>
+ * 
+ * <p><b>Mélange :</b> le paquet tire ses mélanges (initial et après ajout
+ * des extensions) d'un {@link SplittableRandom} qui lui est propre, en
+ * général un flux de la partie ({@link model.game.Game#Game(long)}).</p>
+ * 
+ * <p><b>Sérialisable</b> pour la sauvegarde de parties, sous le même format
+ * qu'auparavant (liste de cartes et générateur) afin de relire les anciennes
+ * sauvegardes. Le générateur n'est plus sauvegardé : un paquet rechargé
+ * mélange avec un générateur non initialisé.</p>
  * 
  * @see model.cards.Card
  * @see model.cards.ExtensionCard
  */
 public class Deck implements Serializable {
     private static final long serialVersionUID = 1L;
-    private final ArrayList<Card> cards;
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("cards", ArrayList.class),
+            new ObjectStreamField("random", Random.class)
+    };
+
+    private byte[] order;
+    private int size;
+    private Card[] cardsByOrdinal;
+    private long mask;
+    private long zobristHash;
+    private transient SplittableRandom random;
 
     public Deck() {
-        this.cards = new ArrayList<>();
+        this(new SplittableRandom());
+    }
+
+    public Deck(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    public Deck(SplittableRandom random) {
+        this.random = random;
         deckInit();
     }
 
     public void shuffle() {
-        Random random = new Random();
-        for (int i = cards.size() - 1; i > 0; i--) {
+        if (random == null) {
+            random = new SplittableRandom();
+        }
+        for (int i = size - 1; i > 0; i--) {
             int j = random.nextInt(i + 1);
-            Collections.swap(cards, i, j);
+            byte swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("cards", getCards());
+        fields.put("random", null);
+        out.writeFields();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        ArrayList<Card> cards = (ArrayList<Card>) fields.get("cards", null);
+        clear();
+        if (cards != null) {
+            for (Card card : cards) {
+                push(card);
+            }
         }
     }
 
-    
     private void deckInit(){
-        cards.clear();
+        clear();
         for  (Suit suit : Suit.values()) {
             for (Face face : Face.values()) {
-                cards.add(new SuitCard(false, suit, face));
+                push(SuitCard.of(suit, face));
             }
         }
-        cards.add(new Joker(false));
+        push(Joker.INSTANCE);
         shuffle();
     }
 
+    private void clear() {
+        order = new byte[CardMask.MAX_ORDINAL + 1];
+        cardsByOrdinal = new Card[CardMask.MAX_ORDINAL + 1];
+        size = 0;
+        mask = 0L;
+        zobristHash = 0L;
+    }
+
+    /**
+     * Place une carte au sommet du paquet (une carte sans ordinal ou déjà présente est ignorée).
+     */
+    private boolean push(Card card) {
+        int ordinal = card.getOrdinal();
+        if (ordinal < 0 || ordinal > CardMask.MAX_ORDINAL || (mask & card.getMask()) != 0) {
+            return false;
+        }
+        cardsByOrdinal[ordinal] = card;
+        order[size++] = (byte) ordinal;
+        mask |= card.getMask();
+        zobristHash ^= Zobrist.key(Zobrist.DECK, ordinal);
+        return true;
+    }
+
     
     public void addExtensions(ArrayList<ExtensionCard> selectedExtensions) {
         if (selectedExtensions == null || selectedExtensions.isEmpty()) {
@@ -68,41 +155,82 @@ public class Deck implements Serializable {
         }
 
         
-        this.cards.addAll(selectedExtensions);
+        for (ExtensionCard card : selectedExtensions) {
+            push(ExtensionManager.resolve(card));
+        }
         
         
         shuffle();
-        
-        System.out.println(selectedExtensions.size() + " cartes d'extension ajoutées au paquet.");
     }
 
     public Card dealCard() {
-        if (cards.isEmpty()) {
+        if (size == 0) {
             throw new IllegalStateException("Le deck est vide");
         }
-        return cards.removeLast();
+        int ordinal = order[--size];
+        mask &= ~CardMask.bit(ordinal);
+        zobristHash ^= Zobrist.key(Zobrist.DECK, ordinal);
+        return cardsByOrdinal[ordinal];
     }
 
     public int getRemainingCount() {
-        return cards.size();
+        return size;
     }
 
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return size == 0;
     }
 
     public void addCard(Card card) {
-        if (cards.contains(card))
-            System.out.println("You cannot add the same card in the deck");
-        else if(card == null)
+        if (card == null)
             System.out.println("You cannot add null card");
-        else{
-            cards.add(card);
+        else if (contains(card))
+            System.out.println("You cannot add the same card in the deck");
+        else if (!push(card))
+            System.out.println("You cannot add a card without ordinal");
+    }
+
+    /**
+     * Remplace le contenu du paquet, dans l'ordre donné (la dernière carte est distribuée en premier).
+     */
+    public void setCards(List<? extends Card> newCards) {
+        clear();
+        for (Card card : newCards) {
+            push(card);
         }
     }
 
-    
+    public boolean contains(Card card) {
+        return (mask & card.getMask()) != 0;
+    }
+
+    public long getMask() {
+        return mask;
+    }
+
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    /**
+     * @return ordinaux des cartes restantes, la prochaine carte distribuée en dernier
+     */
+    public int[] getOrdinals() {
+        int[] ordinals = new int[size];
+        for (int i = 0; i < size; i++) {
+            ordinals[i] = order[i];
+        }
+        return ordinals;
+    }
+
+    /**
+     * @return copie des cartes restantes, la prochaine carte distribuée en dernier
+     */
     public ArrayList<Card> getCards(){
+        ArrayList<Card> cards = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            cards.add(cardsByOrdinal[order[i]]);
+        }
         return cards;
     }
-}
\ No newline at end of file
+}
@@ -5,8 +5,6 @@ import model.players.strategies.StrategyType;
 
 import model.game.ExtensionManager;
 
-import java.io.IOException;
-import java.io.ObjectInputStream;
 import java.util.function.BiFunction;
 
 /**
@@ -31,48 +29,43 @@ import java.util.function.BiFunction;
  *   <li><b>The Spy</b> - Carte neutre à 2 points</li>
  * </ul>
  * 
- * <p><b>Restauration après désérialisation :</b> Les effets et heuristiques
- * sont reconstruits depuis {@link model.game.ExtensionManager}.</p>
+ * <p><b>Exemplaire unique :</b> chaque carte disponible est créée une seule
+ * fois par {@link model.game.ExtensionManager} et partagée par toutes les
+ * parties. La désérialisation rend l'exemplaire de même nom ; une carte
+ * inconnue est restaurée sans effet ni ordinal.</p>
  * 
  * @see model.cards.CardEffect
  * @see model.game.ExtensionManager
  */
 public class ExtensionCard extends Card {
-    private String name;
-    private int faceValue;
-    private String description;
+    private static final long serialVersionUID = -6075346288452571508L;
+    private final String name;
+    private final int ordinal;
+    private final int faceValue;
+    private final String description;
 
-    private transient CardEffect effect;
+    private final transient CardEffect effect;
 
-    private transient BiFunction<StrategyType, Jest, Integer> aiHeuristic;
+    private final transient BiFunction<StrategyType, Jest, Integer> aiHeuristic;
 
-    public ExtensionCard(String name, int faceValue, String description,
+    public ExtensionCard(String name, int ordinal, int faceValue, String description,
             CardEffect effect,
             BiFunction<StrategyType, Jest, Integer> aiHeuristic) {
-        super(false);
         this.name = name;
+        this.ordinal = ordinal;
         this.faceValue = faceValue;
         this.description = description;
         this.effect = effect;
         this.aiHeuristic = aiHeuristic;
     }
 
-    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
-        in.defaultReadObject();
-        restoreRuntimeLogic();
-    }
-
-    private void restoreRuntimeLogic() {
-        for (ExtensionCard ext : ExtensionManager.getAvailableExtensions()) {
-            if (ext != null && ext.getName() != null && ext.getName().equals(this.name)) {
-                this.effect = ext.getEffect();
-                this.aiHeuristic = ext.aiHeuristic;
-                return;
-            }
+    private Object readResolve() {
+        ExtensionCard shared = ExtensionManager.getExtension(name);
+        if (shared != null) {
+            return shared;
         }
-        this.effect = new CardEffect() {
-        };
-        this.aiHeuristic = null;
+        return new ExtensionCard(name, -1, faceValue, description, new CardEffect() {
+        }, null);
     }
 
     public int getAIValue(StrategyType strategy, Jest currentJest) {
@@ -103,6 +96,15 @@ public class ExtensionCard extends Card {
         return 0;
     }
 
+    /**
+     * @return ordinal attribué par {@link model.game.ExtensionManager}, ou {@code -1}
+     *         pour une extension inconnue
+     */
+    @Override
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     @Override
     public String toString() {
         return "[" + name + " (Ext)]";
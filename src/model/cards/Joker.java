@@ -13,14 +13,22 @@ package model.cards;
  *   <li>Avec 1-3 Cœurs : valeurs négatives des Cœurs</li>
  * </ul>
  * 
- * <p>Le Joker n'a pas de valeur nominale ou de couleur.</p>
+ * <p>Le Joker n'a pas de valeur nominale ou de couleur. Il n'existe qu'en
+ * un exemplaire, {@link #INSTANCE}.</p>
  * 
  * @see model.cards.Card
  * @see model.players.ScoreVisitorImpl
  */
 public class Joker extends Card {
-    public Joker(boolean isTrophy) {
-        super(isTrophy);
+    private static final long serialVersionUID = -3139280412580654223L;
+
+    public static final Joker INSTANCE = new Joker();
+
+    private Joker() {
+    }
+
+    private Object readResolve() {
+        return INSTANCE;
     }
 
     @Override
@@ -33,6 +41,11 @@ public class Joker extends Card {
         return 0;
     }
 
+    @Override
+    public int getOrdinal() {
+        return CardMask.JOKER_ORDINAL;
+    }
+
     @Override
     public String toString() {
         return "Joker";
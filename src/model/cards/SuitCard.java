@@ -19,6 +19,10 @@ package model.cards;
  *   <li><code>isBlack()</code> - Détecte Trèfle/Pique</li>
  * </ul>
  * 
+ * <p><b>Exemplaire unique :</b> chaque couple (couleur, valeur) n'existe qu'une
+ * fois, obtenu par {@link #of(Suit, Face)} ; la désérialisation rend ce même
+ * exemplaire.</p>
+ * 
  * <p><b>Bonus spéciaux :</b></p>
  * <ul>
  *   <li>As solitaire d'une couleur : 5 points au lieu de 1</li>
@@ -29,16 +33,33 @@ package model.cards;
  * @see model.cards.Face
  */
 public class SuitCard extends Card {
-    private Suit suit;
-    private Face face;
+    private static final long serialVersionUID = 4922746630374761955L;
+    private static final SuitCard[] CARDS = new SuitCard[CardMask.SUIT_CARD_COUNT];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Face face : Face.values()) {
+                CARDS[CardMask.ordinal(suit, face)] = new SuitCard(suit, face);
+            }
+        }
+    }
 
+    private final Suit suit;
+    private final Face face;
 
-    public SuitCard(boolean isTrophy, Suit suit, Face face) {
-        super(isTrophy);
+    private SuitCard(Suit suit, Face face) {
         this.suit = suit;
         this.face = face;
     }
 
+    public static SuitCard of(Suit suit, Face face) {
+        return CARDS[CardMask.ordinal(suit, face)];
+    }
+
+    private Object readResolve() {
+        return of(suit, face);
+    }
+
     public Suit getSuit() {
         return suit;
     }
@@ -64,6 +85,11 @@ public class SuitCard extends Card {
         return suit.getStrength();
     }
 
+    @Override
+    public int getOrdinal() {
+        return CardMask.ordinal(suit, face);
+    }
+
 
     @Override
     public String toString() {
@@ -81,4 +107,9 @@ public class SuitCard extends Card {
                 face == suitCard.face;
     }
 
+    @Override
+    public int hashCode() {
+        return getOrdinal();
+    }
+
 }
@@ -0,0 +1,105 @@
+package model.cards;
+
+/**
+ * Condition de trophée associée à une carte.
+ *
+ * <p>La condition d'un trophée ne dépend que de la carte tirée : elle est lue
+ * dans une table indexée par ordinal et n'est plus stockée dans la carte.
+ * Les cartes restent ainsi immuables et partagées entre toutes les parties.</p>
+ *
+ * <p><b>Conditions :</b></p>
+ * <ul>
+ *   <li>Joker : meilleur Jest</li>
+ *   <li>Cœurs : possession du Joker</li>
+ *   <li>Autres cartes à couleur : plus forte ou plus faible valeur d'une couleur,
+ *       majorité d'une valeur, meilleur Jest sans Joker</li>
+ *   <li>Cartes d'extension : aucune ({@link #NONE})</li>
+ * </ul>
+ *
+ * @see model.game.TrophyEngine
+ * @see TrophyType
+ */
+public final class Trophy {
+    public static final Trophy NONE = new Trophy(TrophyType.NONE, null, null);
+
+    private static final Trophy[] BY_ORDINAL = new Trophy[CardMask.JOKER_ORDINAL + 1];
+
+    static {
+        BY_ORDINAL[CardMask.JOKER_ORDINAL] = new Trophy(TrophyType.BEST_JEST, null, null);
+        for (Face face : Face.values()) {
+            rule(Suit.HEARTS, face, TrophyType.JOKER, null, null);
+        }
+
+        rule(Suit.CLUBS, Face.ACE, TrophyType.HIGHEST_FACE, Suit.SPADES, null);
+        rule(Suit.CLUBS, Face.TWO, TrophyType.LOWEST_FACE, Suit.HEARTS, null);
+        rule(Suit.CLUBS, Face.THREE, TrophyType.HIGHEST_FACE, Suit.HEARTS, null);
+        rule(Suit.CLUBS, Face.FOUR, TrophyType.LOWEST_FACE, Suit.SPADES, null);
+
+        rule(Suit.SPADES, Face.ACE, TrophyType.HIGHEST_FACE, Suit.CLUBS, null);
+        rule(Suit.SPADES, Face.TWO, TrophyType.MAJORITY_FACE_VALUE, null, Face.THREE);
+        rule(Suit.SPADES, Face.THREE, TrophyType.MAJORITY_FACE_VALUE, null, Face.TWO);
+        rule(Suit.SPADES, Face.FOUR, TrophyType.LOWEST_FACE, Suit.CLUBS, null);
+
+        rule(Suit.DIAMONDS, Face.ACE, TrophyType.MAJORITY_FACE_VALUE, null, Face.FOUR);
+        rule(Suit.DIAMONDS, Face.TWO, TrophyType.HIGHEST_FACE, Suit.DIAMONDS, null);
+        rule(Suit.DIAMONDS, Face.THREE, TrophyType.LOWEST_FACE, Suit.DIAMONDS, null);
+        rule(Suit.DIAMONDS, Face.FOUR, TrophyType.BEST_JEST_NO_JOKER, null, null);
+    }
+
+    private static void rule(Suit suit, Face face, TrophyType type, Suit trophySuit, Face trophyFace) {
+        BY_ORDINAL[CardMask.ordinal(suit, face)] = new Trophy(type, trophySuit, trophyFace);
+    }
+
+    private final TrophyType type;
+    private final Suit suit;
+    private final Face face;
+
+    private Trophy(TrophyType type, Suit suit, Face face) {
+        this.type = type;
+        this.suit = suit;
+        this.face = face;
+    }
+
+    /**
+     * @return la condition du trophée si cette carte est tirée comme trophée
+     */
+    public static Trophy of(Card card) {
+        return card == null ? NONE : of(card.getOrdinal());
+    }
+
+    public static Trophy of(int ordinal) {
+        return ordinal < 0 || ordinal >= BY_ORDINAL.length ? NONE : BY_ORDINAL[ordinal];
+    }
+
+    public TrophyType getType() {
+        return type;
+    }
+
+    /**
+     * @return couleur du critère (plus forte ou plus faible valeur), ou {@code null}
+     */
+    public Suit getSuit() {
+        return suit;
+    }
+
+    /**
+     * @return valeur du critère (majorité), ou {@code null}
+     */
+    public Face getFace() {
+        return face;
+    }
+
+    @Override
+    public String toString() {
+        if (type == TrophyType.NONE) {
+            return "Not a trophy";
+        }
+        if (suit != null) {
+            return type + " of " + suit;
+        }
+        if (face != null) {
+            return type + " of " + face;
+        }
+        return type.toString();
+    }
+}
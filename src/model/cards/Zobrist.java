@@ -0,0 +1,121 @@
+package model.cards;
+
+import java.util.SplittableRandom;
+
+/**
+ * Clés de hachage de Zobrist pour identifier une position de jeu.
+ *
+ * <p>Chaque couple (emplacement, carte) reçoit une clé aléatoire de 64 bits,
+ * tirée une fois pour toutes avec une graine fixe. L'empreinte d'une position
+ * est le OU exclusif des clés des cartes présentes : ajouter ou retirer une
+ * carte se fait donc en O(1) par un simple <code>^=</code>, ce qui permet aux
+ * conteneurs ({@link model.players.Jest}, {@link Deck}, {@link model.players.Offer})
+ * de maintenir leur empreinte au fil du jeu.</p>
+ *
+ * <p><b>Emplacements :</b></p>
+ * <ul>
+ *   <li>{@link #JEST}, {@link #HAND}, {@link #FACE_UP}, {@link #FACE_DOWN} - propres à un joueur</li>
+ *   <li>{@link #DECK} - cartes restantes (ensemble, sans l'ordre)</li>
+ *   <li>{@link #TROPHY} - trophées de la partie</li>
+ * </ul>
+ *
+ * <p><b>Joueurs :</b> les emplacements d'un joueur sont hachés sans sa
+ * place, puis {@link #seat(int, long)} décale l'empreinte selon la place.
+ * La rotation préserve le OU exclusif, l'empreinte d'un joueur reste donc
+ * incrémentale.</p>
+ *
+ * <p>Une carte sans ordinal connu ({@link Card#getOrdinal()} négatif) n'a pas de clé.</p>
+ *
+ * @see model.game.Game#getZobristHash(model.players.Player)
+ * @see model.simulation.Playout#getZobristHash()
+ */
+public final class Zobrist {
+    public static final int JEST = 0;
+    public static final int HAND = 1;
+    public static final int FACE_UP = 2;
+    public static final int FACE_DOWN = 3;
+    public static final int DECK = 4;
+    public static final int TROPHY = 5;
+
+    private static final int ZONES = 6;
+    private static final int SEAT_ROTATION = 11;
+    private static final long[] KEYS = new long[ZONES * (CardMask.MAX_ORDINAL + 1)];
+    private static final long[] TURN_KEYS = new long[Long.SIZE];
+    private static final long[] PLAYED_KEYS = new long[Long.SIZE];
+    private static final long OFFER_PHASE_KEY;
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x4A657374L);
+        for (int i = 0; i < KEYS.length; i++) {
+            KEYS[i] = random.nextLong();
+        }
+        for (int seat = 0; seat < Long.SIZE; seat++) {
+            TURN_KEYS[seat] = random.nextLong();
+            PLAYED_KEYS[seat] = random.nextLong();
+        }
+        OFFER_PHASE_KEY = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * @param zone emplacement ({@link #JEST}, {@link #HAND}, ...)
+     * @param ordinal ordinal de la carte
+     * @return clé de la carte à cet emplacement, 0 pour un ordinal inconnu
+     */
+    public static long key(int zone, int ordinal) {
+        return ordinal < 0 || ordinal > CardMask.MAX_ORDINAL ? 0L : KEYS[zone * (CardMask.MAX_ORDINAL + 1) + ordinal];
+    }
+
+    public static long key(int zone, Card card) {
+        return card == null ? 0L : key(zone, card.getOrdinal());
+    }
+
+    /**
+     * @return empreinte d'un ensemble de cartes donné par son masque
+     */
+    public static long of(int zone, long mask) {
+        long hash = 0L;
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            hash ^= key(zone, Long.numberOfTrailingZeros(bits));
+        }
+        return hash;
+    }
+
+    public static long of(int zone, Iterable<? extends Card> cards) {
+        long hash = 0L;
+        for (Card card : cards) {
+            hash ^= key(zone, card);
+        }
+        return hash;
+    }
+
+    /**
+     * Place l'empreinte des emplacements d'un joueur à sa place autour de la table.
+     */
+    public static long seat(int seat, long hash) {
+        return Long.rotateLeft(hash, seat * SEAT_ROTATION);
+    }
+
+    /**
+     * @return clé du joueur dont c'est le tour
+     */
+    public static long turn(int seat) {
+        return TURN_KEYS[seat];
+    }
+
+    /**
+     * @return clé d'un joueur ayant déjà choisi pendant le tour en cours
+     */
+    public static long played(int seat) {
+        return PLAYED_KEYS[seat];
+    }
+
+    /**
+     * @return clé de la phase d'offres (absente pendant la phase de choix)
+     */
+    public static long offerPhase() {
+        return OFFER_PHASE_KEY;
+    }
+}
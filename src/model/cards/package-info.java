@@ -12,6 +12,9 @@
  *   <li>{@link model.cards.ExtensionCard} - Cartes additionnelles avec effets</li>
  * </ul>
  * 
+ * <p>Les cartes sont immuables et partagées ; la condition de trophée d'une
+ * carte est décrite à part par {@link model.cards.Trophy}.</p>
+ * 
  * @see model.cards.Card
  * @see model.cards.Deck
  */
@@ -1,12 +1,19 @@
 package model.game;
 
 import model.cards.CardEffect;
+import model.cards.CardMask;
 import model.cards.ExtensionCard;
 import model.cards.Joker;
+import model.players.RuleModifier;
 import model.players.ScoreVisitorImpl;
 import model.players.strategies.StrategyType;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 
 /**
  * Gestionnaire des cartes d'extension disponibles.
@@ -22,6 +29,16 @@ import java.util.ArrayList;
  *   <li><b>The Jester</b> - +10 avec Joker, -5 sinon</li>
  * </ul>
  * 
+ * <p><b>Registre :</b> chaque carte d'extension est créée une seule fois, au
+ * chargement de la classe, avec son effet ({@link CardEffect}) et son
+ * heuristique d'IA ; toutes les parties partagent ces exemplaires. Le registre
+ * est immuable et indexé par nom et par ordinal. Le deck, les contrôleurs, la
+ * configuration et la désérialisation y retrouvent l'exemplaire partagé de
+ * chaque carte.</p>
+ * 
+ * <p>Les extensions de fournisseurs {@link ExtensionProvider} déclarés pour
+ * {@link ServiceLoader} sont ajoutées après les extensions fournies.</p>
+ * 
  * <p><b>Validation de configuration :</b></p>
  * <ul>
  *   <li>Vérifie que (deck_base + extensions - trophées) / joueurs = entier</li>
@@ -31,6 +48,7 @@ import java.util.ArrayList;
  * <p><b>Utilisation :</b></p>
  * <pre>
  *   ArrayList&lt;ExtensionCard&gt; available = ExtensionManager.getAvailableExtensions();
+ *   ExtensionCard shield = ExtensionManager.getExtension("The Shield");
  *   boolean valid = ExtensionManager.isValidSelection(selectedIndices, playerCount);
  * </pre>
  * 
@@ -38,18 +56,113 @@ import java.util.ArrayList;
  * @see model.cards.CardEffect
  */
 public class ExtensionManager {
+    private static final List<ExtensionCard> EXTENSIONS;
+    private static final HashMap<String, ExtensionCard> BY_NAME = new HashMap<>();
+    private static final ExtensionCard[] BY_ORDINAL = new ExtensionCard[CardMask.MAX_ORDINAL + 1];
+    private static final int BUILT_IN_COUNT;
+
+    static {
+        ArrayList<ExtensionCard> extensions = new ArrayList<>();
+        register(extensions, createExtensions());
+        BUILT_IN_COUNT = extensions.size();
+        loadProviders(extensions);
+        EXTENSIONS = Collections.unmodifiableList(extensions);
+    }
 
+    /**
+     * @return nouvelle liste des cartes d'extension disponibles (exemplaires partagés, immuables)
+     */
     public static ArrayList<ExtensionCard> getAvailableExtensions() {
+        return new ArrayList<>(EXTENSIONS);
+    }
+
+    /**
+     * @return cartes d'extension disponibles, dans l'ordre de leurs ordinaux (liste non modifiable)
+     */
+    public static List<ExtensionCard> getExtensions() {
+        return EXTENSIONS;
+    }
+
+    /**
+     * @return exemplaire partagé de l'extension <code>name</code>, {@code null} si elle est inconnue
+     */
+    public static ExtensionCard getExtension(String name) {
+        return BY_NAME.get(name);
+    }
+
+    /**
+     * @return exemplaire partagé de l'extension d'ordinal <code>ordinal</code>, {@code null} si aucune
+     */
+    public static ExtensionCard getExtension(int ordinal) {
+        return ordinal >= 0 && ordinal < BY_ORDINAL.length ? BY_ORDINAL[ordinal] : null;
+    }
+
+    /**
+     * @return {@code true} si <code>card</code> est une extension fournie, dont l'ordinal ne dépend pas des fournisseurs chargés
+     */
+    public static boolean isBuiltIn(ExtensionCard card) {
+        return card.getOrdinal() < CardMask.FIRST_EXTENSION_ORDINAL + BUILT_IN_COUNT
+                && BY_NAME.get(card.getName()) == card;
+    }
+
+    /**
+     * @return exemplaire partagé de même nom que <code>card</code>, ou <code>card</code> si elle est inconnue
+     */
+    public static ExtensionCard resolve(ExtensionCard card) {
+        ExtensionCard shared = BY_NAME.get(card.getName());
+        return shared != null ? shared : card;
+    }
+
+    private static void loadProviders(ArrayList<ExtensionCard> extensions) {
+        try {
+            for (ExtensionProvider provider : ServiceLoader.load(ExtensionProvider.class)) {
+                int firstOrdinal = CardMask.FIRST_EXTENSION_ORDINAL + extensions.size();
+                List<ExtensionCard> provided;
+                try {
+                    provided = provider.createExtensions(firstOrdinal);
+                } catch (RuntimeException e) {
+                    System.err.println("Warning: extension provider " + provider.getClass().getName()
+                            + " failed: " + e.getMessage());
+                    continue;
+                }
+                if (provided != null) {
+                    register(extensions, provided);
+                }
+            }
+        } catch (ServiceConfigurationError e) {
+            System.err.println("Warning: failed to load extension providers: " + e.getMessage());
+        }
+    }
+
+    private static void register(ArrayList<ExtensionCard> extensions, List<ExtensionCard> cards) {
+        for (ExtensionCard card : cards) {
+            int expected = CardMask.FIRST_EXTENSION_ORDINAL + extensions.size();
+            if (card == null || card.getName() == null) {
+                System.err.println("Warning: ignoring unnamed extension card");
+            } else if (BY_NAME.containsKey(card.getName())) {
+                System.err.println("Warning: ignoring duplicate extension " + card.getName());
+            } else if (card.getOrdinal() != expected || expected > CardMask.MAX_ORDINAL) {
+                System.err.println("Warning: ignoring extension " + card.getName() + " with ordinal "
+                        + card.getOrdinal() + " (expected " + expected + ", at most " + CardMask.MAX_ORDINAL + ")");
+            } else {
+                extensions.add(card);
+                BY_NAME.put(card.getName(), card);
+                BY_ORDINAL[card.getOrdinal()] = card;
+            }
+        }
+    }
+
+    private static ArrayList<ExtensionCard> createExtensions() {
         ArrayList<ExtensionCard> extensions = new ArrayList<>();
 
         extensions.add(new ExtensionCard(
-                "The Shield", 0,
+                "The Shield", CardMask.FIRST_EXTENSION_ORDINAL + 0, 0,
                 "Protects against penalties: your Diamonds and Hearts no longer give negative points.",
                 new CardEffect() {
                     @Override
                     public void applyOnVisit(ScoreVisitorImpl visitor) {
-                        visitor.setFlag("NO_NEGATIVE_DIAMONDS", true);
-                        visitor.setFlag("NO_NEGATIVE_HEARTS", true);
+                        visitor.setFlag(RuleModifier.NO_NEGATIVE_DIAMONDS, true);
+                        visitor.setFlag(RuleModifier.NO_NEGATIVE_HEARTS, true);
                     }
                 },
                 (strategy, jest) -> {
@@ -59,7 +172,7 @@ public class ExtensionManager {
                 }));
 
         extensions.add(new ExtensionCard(
-                "The Crown", 0,
+                "The Crown", CardMask.FIRST_EXTENSION_ORDINAL + 1, 0,
                 "A royal treasure: Adds 5 points directly to your final score.",
                 new CardEffect() {
                     @Override
@@ -70,14 +183,14 @@ public class ExtensionManager {
                 (strategy, jest) -> 20));
 
         extensions.add(new ExtensionCard(
-                "The Spy", 2,
+                "The Spy", CardMask.FIRST_EXTENSION_ORDINAL + 2, 2,
                 "An infiltrated agent: Neutral card worth 2 points.",
                 new CardEffect() {
                 },
                 (strategy, jest) -> 2));
 
         extensions.add(new ExtensionCard(
-                "The Jester", 0,
+                "The Jester", CardMask.FIRST_EXTENSION_ORDINAL + 3, 0,
                 "The Joker's friend: Worth +10 if you have the Joker, otherwise -5.",
                 new CardEffect() {
                     @Override
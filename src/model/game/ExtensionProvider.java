@@ -0,0 +1,44 @@
+package model.game;
+
+import model.cards.ExtensionCard;
+
+import java.util.List;
+
+/**
+ * Fournisseur de cartes d'extension supplémentaires, chargé au démarrage par
+ * {@link java.util.ServiceLoader}.
+ *
+ * <p>Un fournisseur est déclaré dans
+ * <code>META-INF/services/model.game.ExtensionProvider</code> (nom complet de
+ * la classe, qui doit avoir un constructeur public sans argument).
+ * {@link ExtensionManager} l'appelle une seule fois, à sa première
+ * utilisation ; les cartes rendues sont ensuite partagées par toutes les
+ * parties, comme les extensions fournies.</p>
+ *
+ * <p><b>Règles :</b></p>
+ * <ul>
+ *   <li>Ordinaux consécutifs à partir de <code>firstOrdinal</code>, jusqu'à
+ *       {@link model.cards.CardMask#MAX_ORDINAL}</li>
+ *   <li>Nom unique parmi toutes les extensions</li>
+ *   <li>Ne pas appeler {@link ExtensionManager} pendant la création</li>
+ * </ul>
+ *
+ * <p>Une carte qui ne respecte pas ces règles est ignorée, avec un avertissement.</p>
+ *
+ * <p>Les ordinaux attribués dépendent de l'ordre de chargement des
+ * fournisseurs et peuvent changer d'un lancement à l'autre. Les sauvegardes
+ * ({@link GameCodec}) et les journaux de parties ({@link model.simulation.ReplayLog})
+ * enregistrent donc, pour chaque extension, son nom et l'ordinal utilisé à
+ * l'écriture ; à la lecture, les ordinaux enregistrés sont traduits vers
+ * ceux de l'extension de même nom dans le registre actuel.</p>
+ *
+ * @see ExtensionManager
+ */
+public interface ExtensionProvider {
+
+    /**
+     * @param firstOrdinal ordinal de la première carte fournie
+     * @return cartes fournies, dans l'ordre de leurs ordinaux
+     */
+    List<ExtensionCard> createExtensions(int firstOrdinal);
+}
@@ -24,6 +24,7 @@ import java.util.ArrayList;
  *   <li><code>distributeAllCards()</code> - Distribution équitable de toutes les cartes</li>
  *   <li><code>finalizeRound()</code> - Traitement des dernières cartes</li>
  *   <li><code>isOver()</code> - Vérifie si tous ont ≤1 carte</li>
+ *   <li><code>getLargestHandSize()</code> - Taille de la plus grande main (fin de partie)</li>
  * </ul>
  * 
  * @see model.game.Round
@@ -33,8 +34,8 @@ public class FullHandRound extends Round {
     private static final long serialVersionUID = 1L;
     private boolean initialDistributionDone = false;
 
-    public FullHandRound(ArrayList<Player> players, Deck deck) {
-        super(players, deck);
+    public FullHandRound(ArrayList<Player> players, Deck deck, int roundNumber) {
+        super(players, deck, roundNumber);
     }
 
     
@@ -113,4 +114,24 @@ public class FullHandRound extends Round {
     public boolean isInitialDistributionDone() {
         return initialDistributionDone;
     }
+
+    void setInitialDistributionDone(boolean initialDistributionDone) {
+        this.initialDistributionDone = initialDistributionDone;
+    }
+
+    /**
+     * @return plus grand nombre de cartes détenues par un joueur, main et offre en cours comprises
+     */
+    public int getLargestHandSize() {
+        int largest = 0;
+        for (Player player : getPlayers()) {
+            int size = player.getHand().size();
+            if (player.getOffer() != null) {
+                size += player.getOffer().getFaceUpCard() != null ? 1 : 0;
+                size += player.getOffer().getFaceDownCard() != null ? 1 : 0;
+            }
+            largest = Math.max(largest, size);
+        }
+        return largest;
+    }
 }
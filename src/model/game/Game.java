@@ -4,13 +4,15 @@ import model.cards.*;
 import model.game.variants.StandardVariant;
 import model.players.HumanPlayer;
 import model.players.Player;
-import model.players.ScoreVisitor;
-import model.players.ScoreVisitorImpl;
+import model.players.Scorer;
+import model.players.ScorerFactory;
 import model.players.VirtualPlayer;
+import model.players.strategies.SearchBudget;
 import model.players.strategies.StrategyType;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.SplittableRandom;
 
 /**
  * Classe principale représentant une partie de Jest.
@@ -22,8 +24,8 @@ import java.util.ArrayList;
  * <ul>
  *   <li>Gestion des joueurs (ajout humain/virtuel)</li>
  *   <li>Sélection et tirage des trophées</li>
- *   <li>Attribution finale des trophées selon critères</li>
- *   <li>Calcul des scores via le visiteur approprié</li>
+ *   <li>Attribution finale des trophées selon critères (via {@link TrophyEngine})</li>
+ *   <li>Calcul des scores via le scorer de la variante et des extensions ({@link model.players.ScorerFactory})</li>
  *   <li>Détermination du/des gagnant(s)</li>
  *   <li>Application de la variante de jeu</li>
  * </ul>
@@ -38,6 +40,17 @@ import java.util.ArrayList;
  * 
  * <p><b>Sérialisable</b> pour permettre la sauvegarde/chargement.</p>
  * 
+ * <p><b>Hasard reproductible :</b> une partie créée avec une graine
+ * ({@link #Game(long)}) tire tout son hasard d'un même
+ * {@link SplittableRandom} : le mélange du deck (extensions comprises) et
+ * chaque joueur virtuel reçoivent un flux issu de {@link SplittableRandom#split()}.
+ * Une graine rejoue donc la même partie sur n'importe quel thread, et des
+ * parties jouées en parallèle ne partagent aucun générateur.</p>
+ * 
+ * <p><b>Empreinte :</b> {@link #getZobristHash(Player)} combine les empreintes
+ * incrémentales du deck et de chaque joueur (Jest, main, offre) avec les
+ * trophées et le joueur dont c'est le tour.</p>
+ * 
  * @see model.game.GameVariant
  * @see model.players.Player
  * @see model.cards.Deck
@@ -47,36 +60,97 @@ public class Game implements Serializable {
     private final Deck deck;
     private final ArrayList<Player> players;
 
+    /** Nom du champ conservé pour relire les sauvegardes en sérialisation Java des versions précédentes. */
     private int savedRoundCounter;
 
+    private Round currentRound;
+
     private ArrayList<Card> trophies;
 
     private GameVariant variant;
 
+    private SearchBudget searchBudget;
+
+    private transient SplittableRandom randomStreams;
+
     public Game() {
-        this.deck = new Deck();
+        this((SplittableRandom) null);
+    }
+
+    public Game(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private Game(SplittableRandom randomStreams) {
+        this.randomStreams = randomStreams;
+        this.deck = randomStreams != null ? new Deck(randomStreams.split()) : new Deck();
         this.players = new ArrayList<>();
         this.trophies = new ArrayList<>();
         this.savedRoundCounter = 0;
+        this.searchBudget = SearchBudget.DEFAULT;
 
+        // La variante standard n'a rien à préparer : setup n'est appelé que par
+        // setVariant, sur une partie entièrement construite.
         this.variant = new StandardVariant();
-        this.variant.setup(this);
     }
 
-    public int getSavedRoundCounter() {
+    /**
+     * @return numéro du dernier tour commencé dans cette partie (0 avant le premier tour)
+     */
+    public int getRoundCounter() {
         return savedRoundCounter;
     }
 
-    public void setSavedRoundCounter(int savedRoundCounter) {
-        this.savedRoundCounter = savedRoundCounter;
+    /**
+     * Incrémente le compteur de tours de cette partie.
+     *
+     * @return numéro du nouveau tour
+     */
+    public int nextRoundNumber() {
+        return ++savedRoundCounter;
+    }
+
+    void setRoundCounter(int roundCounter) {
+        this.savedRoundCounter = roundCounter;
+    }
+
+    /**
+     * @return tour en cours (ou dernier tour joué), {@code null} avant le premier tour
+     */
+    public Round getCurrentRound() {
+        return currentRound;
+    }
+
+    public void setCurrentRound(Round currentRound) {
+        this.currentRound = currentRound;
     }
 
     public void addHumanPlayer(String name) {
         players.add(new HumanPlayer(name, false));
     }
 
+    /**
+     * @return budget des stratégies simulées des joueurs virtuels de cette partie
+     */
+    public SearchBudget getSearchBudget() {
+        return searchBudget != null ? searchBudget : SearchBudget.DEFAULT;
+    }
+
+    /**
+     * Définit le budget des stratégies simulées ; s'applique aux joueurs virtuels ajoutés ensuite.
+     */
+    public void setSearchBudget(SearchBudget searchBudget) {
+        if (searchBudget == null) {
+            throw new IllegalArgumentException("searchBudget must not be null");
+        }
+        this.searchBudget = searchBudget;
+    }
+
     public void addVirtualPlayer(String name, StrategyType strategy) {
-        players.add(new VirtualPlayer(name, strategy));
+        VirtualPlayer player = new VirtualPlayer(name, strategy,
+                randomStreams != null ? randomStreams.split() : null, getSearchBudget());
+        player.setGame(this);
+        players.add(player);
     }
 
     public ArrayList<Player> getPlayers() {
@@ -104,350 +178,32 @@ public class Game implements Serializable {
     }
 
     public void calculateAllScores() {
-        ScoreVisitor visitor = variant.createScoreVisitor();
-
-        if (visitor instanceof ScoreVisitorImpl) {
-            ScoreVisitorImpl scoreVisitor = (ScoreVisitorImpl) visitor;
-            for (Player player : players) {
-                scoreVisitor.resetScore();
-                player.calculateScore(scoreVisitor);
-            }
-        } else {
-
-            for (Player player : players) {
-                ScoreVisitor newVisitor = variant.createScoreVisitor();
-                player.calculateScore(newVisitor);
-            }
-        }
-    }
-
-    public void assignTrophies() {
-        if (this.trophies == null || this.trophies.isEmpty())
-            return;
-
-        for (Card trophy : this.trophies) {
-            Player winner = determineTrophyWinner(trophy);
-            if (winner != null) {
-                winner.getJest().addCard(trophy);
-            }
-        }
-    }
-
-    private Player determineTrophyWinner(Card trophy) {
-        TrophyType tType = trophy.getTrophyType();
-        return switch (tType) {
-            case HIGHEST_FACE -> evaluateHighestFace(trophy.getTrophySuit());
-            case LOWEST_FACE -> evaluateLowestFace(trophy.getTrophySuit());
-            case MAJORITY_FACE_VALUE -> evaluateMajorityFaceValue(trophy.getTrophyFace());
-            case JOKER -> evaluateJokerTrophy();
-            case BEST_JEST -> evaluateBestJest();
-            case BEST_JEST_NO_JOKER -> evaluateBestJestWithoutJoker();
-            default -> null;
-        };
-    }
-
-    private Player evaluateHighestFace(Suit suit) {
-        int bestFaceValue = 0;
-        ArrayList<Player> ties = new ArrayList<>();
-        for (Player player : players) {
-            for (Card card : player.getJest().getCards()) {
-
-                if (suit.getStrength() == card.getSuitValue()) {
-                    int val = card.getFaceValue();
-                    if (val > bestFaceValue) {
-                        bestFaceValue = val;
-                        ties.clear();
-                        ties.add(player);
-                    } else if (val == bestFaceValue) {
-                        if (!ties.contains(player)) {
-                            ties.add(player);
-                        }
-                    }
-                }
-            }
-        }
-        if (ties.isEmpty())
-            return null;
-        if (ties.size() == 1)
-            return ties.getFirst();
-
-        return ties.getFirst();
-    }
-
-    private Player evaluateLowestFace(Suit suit) {
-
-        int lowestFaceValue = 4;
-        ArrayList<Player> ties = new ArrayList<>();
-        for (Player player : players) {
-            for (Card card : player.getJest().getCards()) {
-                if (suit.getStrength() == card.getSuitValue()) {
-                    int val = card.getFaceValue();
-                    if (val < lowestFaceValue) {
-                        lowestFaceValue = val;
-                        ties.clear();
-                        ties.add(player);
-                    } else if (val == lowestFaceValue) {
-                        if (!ties.contains(player)) {
-                            ties.add(player);
-                        }
-                    }
-                }
-            }
-        }
-        if (ties.isEmpty())
-            return null;
-        if (ties.size() == 1)
-            return ties.getFirst();
-
-        return ties.getFirst();
-    }
-
-    private Player evaluateMajorityFaceValue(Face face) {
-        int cardsCount = 0;
-        int maxCardsCount = -1;
-        ArrayList<Player> ties = new ArrayList<>();
-        for (Player player : players) {
-            for (Card card : player.getJest().getCards()) {
-                if (card.getFaceValue() == face.getFaceValue()) {
-                    cardsCount++;
-                }
-            }
-            if (cardsCount > maxCardsCount) {
-                maxCardsCount = cardsCount;
-                ties.clear();
-                ties.add(player);
-            } else if (cardsCount == maxCardsCount) {
-                if (!ties.contains(player)) {
-                    ties.add(player);
-                }
-            }
-        }
-        if (ties.isEmpty())
-            return null;
-        if (ties.size() == 1)
-            return ties.getFirst();
-
-        return breakTieByStrongestSuitAmongFaceValue(ties, face);
-    }
-
-    private Player evaluateJokerTrophy() {
-        for (Player player : players) {
-            for (Card card : player.getJest().getCards()) {
-                if (card instanceof Joker)
-                    return player;
-            }
-        }
-        return null;
-    }
-
-    private Player evaluateBestJest() {
-        ArrayList<Player> ties = new ArrayList<>();
-        calculateAllScores();
-        int maxScore = -999;
+        long cards = 0L;
         for (Player player : players) {
-            if (player.getScore() > maxScore) {
-                maxScore = player.getScore();
-                ties.clear();
-                ties.add(player);
-            } else if (player.getScore() == maxScore) {
-                if (!ties.contains(player)) {
-                    ties.add(player);
-                }
-            }
-
+            cards |= player.getJest().getMask();
         }
-
-        if (ties.isEmpty())
-            return null;
-        if (ties.size() == 1)
-            return ties.getFirst();
-
-        return breakTieByHighestFaceValue(ties);
-    }
-
-    private Player evaluateBestJestWithoutJoker() {
-
-        ArrayList<Player> ties = new ArrayList<>();
-        ArrayList<Player> candidates = new ArrayList<>(players);
-        calculateAllScores();
-        int maxScore = -999;
+        Scorer scorer = ScorerFactory.forConfiguration(variant, cards);
         for (Player player : players) {
-            for (Card card : player.getJest().getCards()) {
-                if (card instanceof Joker) {
-                    candidates.remove(player);
-                    break;
-                }
-            }
-        }
-        for (Player player : candidates) {
-            if (player.getScore() > maxScore) {
-                maxScore = player.getScore();
-                ties.clear();
-                ties.add(player);
-            } else if (player.getScore() == maxScore) {
-                if (!ties.contains(player)) {
-                    ties.add(player);
-                }
-            }
-
-        }
-
-        if (ties.isEmpty())
-            return null;
-        if (ties.size() == 1)
-            return ties.getFirst();
-
-        return breakTieByHighestFaceValue(ties);
-    }
-
-    private Player breakTieByHighestFaceValue(ArrayList<Player> ties) {
-        Player best = null;
-        int bestFaceValue = -1;
-        int bestSuitValue = -1;
-        for (Player player : ties) {
-            for (Card card : player.getJest().getCards()) {
-                if (card instanceof SuitCard) {
-                    int fv = card.getFaceValue();
-                    int sv = card.getSuitValue();
-                    if (fv > bestFaceValue || (fv == bestFaceValue && sv > bestSuitValue)) {
-                        bestFaceValue = fv;
-                        bestSuitValue = sv;
-                        best = player;
-                    }
-                }
-            }
+            player.setScore(scorer.score(player.getJest()));
         }
-
-        return best;
     }
 
-    private Player breakTieByStrongestSuitAmongFaceValue(ArrayList<Player> ties, Face face) {
-        Player best = null;
-        int bestStrength = -1;
-        for (Player player : ties) {
-            int playerBestRank = -1;
-            for (Card card : player.getJest().getCards()) {
-                if (card instanceof SuitCard && ((SuitCard) card).getFaceValue() == face.getFaceValue()) {
-                    int rank = card.getSuitValue();
-                    playerBestRank = Math.max(playerBestRank, rank);
-                }
-            }
-            if (playerBestRank > bestStrength) {
-                best = player;
-                bestStrength = playerBestRank;
-            }
+    public void assignTrophies() {
+        if (this.trophies == null || this.trophies.isEmpty())
+            return;
 
-            else if (playerBestRank == bestStrength) {
-                continue;
-            }
-        }
-        return best;
+        new TrophyEngine(players, variant).assignTrophies(trophies);
     }
 
     public Deck getDeck() {
         return deck;
     }
 
-    public void assignTrophyType() {
-        for (Card trophy : trophies) {
-            if (trophy instanceof Joker) {
-                trophy.setTrophyType(TrophyType.BEST_JEST);
-            }
-            if (trophy instanceof SuitCard) {
-
-                if (((SuitCard) trophy).getSuit() == Suit.HEARTS) {
-                    trophy.setTrophyType(TrophyType.JOKER);
-                }
-
-                else if (((SuitCard) trophy).getSuit() == Suit.CLUBS) {
-                    if (((SuitCard) trophy).getFace() != Face.TWO && ((SuitCard) trophy).getFace() != Face.THREE) {
-                        if (((SuitCard) trophy).getFace() == Face.FOUR) {
-                            TrophyType type = TrophyType.LOWEST_FACE;
-                            trophy.setTrophySuit(Suit.SPADES);
-
-                            trophy.setTrophyType(type);
-                        } else {
-                            TrophyType type = TrophyType.HIGHEST_FACE;
-                            trophy.setTrophySuit(Suit.SPADES);
-
-                            trophy.setTrophyType(type);
-                        }
-                    } else {
-                        if (((SuitCard) trophy).getFace() == Face.THREE) {
-                            TrophyType type = TrophyType.HIGHEST_FACE;
-                            trophy.setTrophySuit(Suit.HEARTS);
-
-                            trophy.setTrophyType(type);
-                        } else {
-                            TrophyType type = TrophyType.LOWEST_FACE;
-                            trophy.setTrophySuit(Suit.HEARTS);
-
-                            trophy.setTrophyType(type);
-                        }
-                    }
-
-                } else if (((SuitCard) trophy).getSuit() == Suit.SPADES) {
-                    if (((SuitCard) trophy).getFace() != Face.THREE && ((SuitCard) trophy).getFace() != Face.TWO) {
-                        if (((SuitCard) trophy).getFace() == Face.FOUR) {
-                            TrophyType type = TrophyType.LOWEST_FACE;
-                            trophy.setTrophySuit(Suit.CLUBS);
-
-                            trophy.setTrophyType(type);
-                        } else {
-                            TrophyType type = TrophyType.HIGHEST_FACE;
-                            trophy.setTrophySuit(Suit.CLUBS);
-
-                            trophy.setTrophyType(type);
-                        }
-                    } else {
-                        if (((SuitCard) trophy).getFace() == Face.THREE) {
-                            TrophyType type = TrophyType.MAJORITY_FACE_VALUE;
-                            trophy.setTrophyFace(Face.TWO);
-
-                            trophy.setTrophyType(type);
-                        } else {
-                            TrophyType type = TrophyType.MAJORITY_FACE_VALUE;
-                            trophy.setTrophyFace(Face.THREE);
-
-                            trophy.setTrophyType(type);
-                        }
-                    }
-                }
-
-                else {
-                    if (((SuitCard) trophy).getFace() == Face.FOUR) {
-                        trophy.setTrophyType(TrophyType.BEST_JEST_NO_JOKER);
-                    } else if (((SuitCard) trophy).getFace() == Face.ACE) {
-                        TrophyType type = TrophyType.MAJORITY_FACE_VALUE;
-                        trophy.setTrophyFace(Face.FOUR);
-
-                        trophy.setTrophyType(type);
-                    } else {
-                        if (((SuitCard) trophy).getFace() == Face.TWO) {
-                            TrophyType type = TrophyType.HIGHEST_FACE;
-                            trophy.setTrophySuit(Suit.DIAMONDS);
-
-                            trophy.setTrophyType(type);
-                        } else {
-                            TrophyType type = TrophyType.LOWEST_FACE;
-                            trophy.setTrophySuit(Suit.DIAMONDS);
-
-                            trophy.setTrophyType(type);
-                        }
-                    }
-                }
-            }
-        }
-    }
-
     public ArrayList<Card> chooseTrophies(int playerCount) {
         int trophiesCount = (playerCount == 3) ? 2 : 1;
         for (int i = 0; i < trophiesCount; i++) {
-            Card trophy = deck.dealCard();
-            trophy.setTrophy(true);
-            trophies.add(trophy);
+            trophies.add(deck.dealCard());
         }
-        assignTrophyType();
         return trophies;
     }
 
@@ -473,4 +229,22 @@ public class Game implements Serializable {
     public GameVariant getVariant() {
         return variant;
     }
+
+    /**
+     * Empreinte de Zobrist de l'état courant.
+     *
+     * @param toMove joueur dont c'est le tour, ou {@code null}
+     * @see Zobrist
+     */
+    public long getZobristHash(Player toMove) {
+        long hash = deck.getZobristHash();
+        if (trophies != null) {
+            hash ^= Zobrist.of(Zobrist.TROPHY, trophies);
+        }
+        for (int seat = 0; seat < players.size(); seat++) {
+            hash ^= Zobrist.seat(seat, players.get(seat).getZobristHash());
+        }
+        int seat = toMove == null ? -1 : players.indexOf(toMove);
+        return seat < 0 ? hash : hash ^ Zobrist.turn(seat);
+    }
 }
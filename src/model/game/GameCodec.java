@@ -0,0 +1,547 @@
+package model.game;
+
+import model.cards.Card;
+import model.cards.CardMask;
+import model.cards.ExtensionCard;
+import model.game.variants.FullHandVariant;
+import model.game.variants.ReverseScoringVariant;
+import model.game.variants.StandardVariant;
+import model.players.Offer;
+import model.players.Player;
+import model.players.VirtualPlayer;
+import model.players.strategies.PlayStrategy;
+import model.players.strategies.StrategyType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Format binaire compact et versionné de l'état d'une partie.
+ *
+ * <p>Remplace la sérialisation Java pour les sauvegardes : les cartes sont
+ * écrites par ordinal ({@link Card#getOrdinal()}) et relues comme les
+ * exemplaires partagés ({@link Card#of(int)}), les entiers en varint. Les
+ * ordinaux des extensions dépendant des fournisseurs chargés
+ * ({@link ExtensionProvider}), chaque sauvegarde porte aussi le nom des
+ * extensions qu'elle contient : elles sont relues par nom. Une
+ * partie en cours tient en une centaine d'octets et le format ne dépend pas
+ * des champs des classes du modèle.</p>
+ *
+ * <p><b>Format</b> (entiers en varint, le score en zigzag) :</p>
+ * <ul>
+ *   <li>En-tête : <code>JEST</code>, version du format, longueur puis contenu
+ *       du résumé ({@link GameSummary} : variante, compteur de tours, cartes
+ *       restantes, date en millisecondes, joueurs avec nom et stratégie + 1 ou 0
+ *       pour un humain)</li>
+ *   <li>Extensions : nombre, puis pour chacune l'ordinal utilisé dans la sauvegarde et le nom</li>
+ *   <li>Variante (0 Standard, 1 Reverse Scoring, 2 Full Hand), compteur de tours</li>
+ *   <li>Deck (la prochaine carte distribuée en dernier) et trophées : nombre, puis ordinaux</li>
+ *   <li>Joueurs : nombre, puis pour chacun type (0 humain, 1 virtuel), nom
+ *       (longueur et UTF-8), stratégie et cartes vues (joueur virtuel), score,
+ *       main, Jest, offre (0 aucune, sinon 1 puis ordinal + 1 de chaque face, 0 si prise)</li>
+ *   <li>Tour en cours (0 aucun, 1 standard, 2 Full Hand) : numéro, fin du tour,
+ *       distribution initiale (Full Hand), offres (place du propriétaire, 0 pour
+ *       son offre en cours ou 1 suivi des faces), joueurs ayant déjà joué</li>
+ * </ul>
+ *
+ * <p>Le résumé se lit sans décoder la partie ({@link #readSummary(byte[])}) :
+ * les premiers octets d'une sauvegarde suffisent pour la lister. Les
+ * sauvegardes des versions 1 (sans résumé) et 2 (sans table des extensions)
+ * restent lisibles. Une extension inconnue rend la sauvegarde illisible.</p>
+ *
+ * <p>Le générateur aléatoire d'une partie n'est pas sauvegardé, comme avec la
+ * sérialisation Java.</p>
+ *
+ * @see app.SaveManager
+ */
+public final class GameCodec {
+    private static final byte[] MAGIC = { 'J', 'E', 'S', 'T' };
+    private static final int VERSION = 3;
+    private static final int VERSION_WITHOUT_EXTENSION_NAMES = 2;
+    private static final int VERSION_WITHOUT_SUMMARY = 1;
+
+    private static final int NO_ROUND = 0;
+    private static final int STANDARD_ROUND = 1;
+    private static final int FULL_HAND_ROUND = 2;
+
+    private GameCodec() {
+    }
+
+    /**
+     * @return {@code true} si <code>bytes</code> commence par l'en-tête de ce format
+     */
+    public static boolean isEncoded(byte[] bytes) {
+        if (bytes.length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (bytes[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Encode la partie, datée de l'instant présent.
+     *
+     * @throws IllegalArgumentException si la partie contient une carte sans ordinal ou une variante inconnue
+     */
+    public static byte[] encode(Game game) {
+        return encode(game, System.currentTimeMillis());
+    }
+
+    /**
+     * @param savedAt date de la sauvegarde, écrite dans le résumé
+     * @throws IllegalArgumentException si la partie contient une carte sans ordinal ou une variante inconnue
+     */
+    public static byte[] encode(Game game, long savedAt) {
+        Writer out = new Writer();
+        out.writeInt(variantCode(game.getVariant()));
+        out.writeInt(game.getRoundCounter());
+        out.writeCards(game.getDeck().getCards());
+        out.writeCards(game.getTrophies());
+
+        ArrayList<Player> players = game.getPlayers();
+        out.writeInt(players.size());
+        for (Player player : players) {
+            if (player instanceof VirtualPlayer) {
+                VirtualPlayer virtual = (VirtualPlayer) player;
+                out.writeInt(1);
+                out.writeString(player.getName());
+                out.writeInt(virtual.getStrategy().ordinal());
+                out.writeLong(virtual.getPlayStrategy().getSeenCards());
+            } else {
+                out.writeInt(0);
+                out.writeString(player.getName());
+            }
+            out.writeLong((long) player.getScore() << 1 ^ player.getScore() >> 31);
+            out.writeCards(player.getHand());
+            out.writeCards(player.getJest().getCards());
+            if (player.getOffer() == null) {
+                out.writeInt(0);
+            } else {
+                out.writeInt(1);
+                out.writeFaces(player.getOffer());
+            }
+        }
+
+        Round round = game.getCurrentRound();
+        if (round == null) {
+            out.writeInt(NO_ROUND);
+            return withHeader(game, savedAt, out);
+        }
+        out.writeInt(round instanceof FullHandRound ? FULL_HAND_ROUND : STANDARD_ROUND);
+        out.writeInt(round.getRoundNumber());
+        out.writeInt(round.isOver() ? 1 : 0);
+        if (round instanceof FullHandRound) {
+            out.writeInt(((FullHandRound) round).isInitialDistributionDone() ? 1 : 0);
+        }
+        out.writeInt(round.getOffers().size());
+        for (Offer offer : round.getOffers()) {
+            out.writeInt(seat(players, offer.getOwner()));
+            if (offer == offer.getOwner().getOffer()) {
+                out.writeInt(0);
+            } else {
+                out.writeInt(1);
+                out.writeFaces(offer);
+            }
+        }
+        ArrayList<Player> alreadyPlayed = round.getAlreadyPlayed();
+        if (alreadyPlayed == null) {
+            out.writeInt(0);
+        } else {
+            out.writeInt(1 + alreadyPlayed.size());
+            for (Player player : alreadyPlayed) {
+                out.writeInt(seat(players, player));
+            }
+        }
+        return withHeader(game, savedAt, out);
+    }
+
+    /**
+     * @return en-tête, résumé et table des extensions utilisées par <code>body</code>, suivis de <code>body</code>
+     */
+    private static byte[] withHeader(Game game, long savedAt, Writer body) {
+        Writer out = new Writer();
+        out.writeBytes(MAGIC);
+        out.writeInt(VERSION);
+        byte[] summary = encodeSummary(GameSummary.of(game, savedAt));
+        out.writeInt(summary.length);
+        out.writeBytes(summary);
+        out.writeInt(Long.bitCount(body.extensions));
+        for (long bits = body.extensions; bits != 0; bits &= bits - 1) {
+            int ordinal = Long.numberOfTrailingZeros(bits);
+            out.writeInt(ordinal);
+            out.writeString(ExtensionManager.getExtension(ordinal).getName());
+        }
+        out.writeBytes(body.toByteArray());
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException si les octets sont tronqués, corrompus ou d'une version inconnue
+     */
+    public static Game decode(byte[] bytes) {
+        if (!isEncoded(bytes)) {
+            throw new IllegalArgumentException("Not a saved game");
+        }
+        Reader in = new Reader(bytes, MAGIC.length);
+        int version = in.nextInt();
+        if (version == VERSION || version == VERSION_WITHOUT_EXTENSION_NAMES) {
+            in.skip(in.nextInt());
+        } else if (version != VERSION_WITHOUT_SUMMARY) {
+            throw new IllegalArgumentException("Unsupported save version: " + version);
+        }
+        if (version == VERSION) {
+            in.readExtensions();
+        }
+
+        Game game = new Game();
+        game.setVariant(variant(in.nextInt()));
+        game.setRoundCounter(in.nextInt());
+        game.getDeck().setCards(in.nextCards());
+        game.getTrophies().clear();
+        game.getTrophies().addAll(in.nextCards());
+
+        int playerCount = in.nextInt();
+        StrategyType[] strategies = StrategyType.values();
+        ArrayList<Player> players = game.getPlayers();
+        for (int seat = 0; seat < playerCount; seat++) {
+            int kind = in.nextInt();
+            String name = in.nextString();
+            if (kind == 1) {
+                int strategy = in.nextInt();
+                if (strategy >= strategies.length) {
+                    throw new IllegalArgumentException("Unknown strategy in save: " + strategy);
+                }
+                game.addVirtualPlayer(name, strategies[strategy]);
+                PlayStrategy playStrategy = ((VirtualPlayer) players.get(seat)).getPlayStrategy();
+                playStrategy.updateJest(players.get(seat).getJest());
+                playStrategy.setSeenCards(in.nextLong());
+            } else if (kind == 0) {
+                game.addHumanPlayer(name);
+            } else {
+                throw new IllegalArgumentException("Unknown player type in save: " + kind);
+            }
+            Player player = players.get(seat);
+            long score = in.nextLong();
+            player.setScore((int) (score >>> 1 ^ -(score & 1)));
+            player.getHand().addAll(in.nextCards());
+            for (Card card : in.nextCards()) {
+                player.getJest().addCard(card);
+            }
+            if (in.nextInt() != 0) {
+                player.setOffer(in.nextOffer(player));
+            }
+        }
+
+        int roundType = in.nextInt();
+        if (roundType == NO_ROUND) {
+            return game;
+        }
+        if (roundType != STANDARD_ROUND && roundType != FULL_HAND_ROUND) {
+            throw new IllegalArgumentException("Unknown round type in save: " + roundType);
+        }
+        int roundNumber = in.nextInt();
+        Round round = roundType == FULL_HAND_ROUND
+                ? new FullHandRound(players, game.getDeck(), roundNumber)
+                : new Round(players, game.getDeck(), roundNumber);
+        round.setIsOver(in.nextInt() != 0);
+        if (round instanceof FullHandRound) {
+            ((FullHandRound) round).setInitialDistributionDone(in.nextInt() != 0);
+        }
+        int offerCount = in.nextInt();
+        for (int i = 0; i < offerCount; i++) {
+            Player owner = in.nextPlayer(players);
+            round.addOffer(in.nextInt() == 0 ? owner.getOffer() : in.nextOffer(owner));
+        }
+        int alreadyPlayed = in.nextInt();
+        if (alreadyPlayed > 0) {
+            ArrayList<Player> played = new ArrayList<>();
+            for (int i = 1; i < alreadyPlayed; i++) {
+                played.add(in.nextPlayer(players));
+            }
+            round.setAlreadyPlayed(played);
+        }
+        game.setCurrentRound(round);
+        return game;
+    }
+
+    /**
+     * Lit le résumé d'une sauvegarde sans décoder la partie.
+     *
+     * @param bytes début de la sauvegarde, au moins jusqu'à la fin du résumé
+     * @throws IllegalArgumentException si le résumé est tronqué ou corrompu
+     */
+    public static GameSummary readSummary(byte[] bytes) {
+        if (!isEncoded(bytes)) {
+            throw new IllegalArgumentException("Not a saved game");
+        }
+        Reader in = new Reader(bytes, MAGIC.length);
+        int version = in.nextInt();
+        if (version == VERSION_WITHOUT_SUMMARY) {
+            return GameSummary.of(decode(bytes), 0L);
+        }
+        if (version != VERSION && version != VERSION_WITHOUT_EXTENSION_NAMES) {
+            throw new IllegalArgumentException("Unsupported save version: " + version);
+        }
+        in.nextInt();
+        return in.nextSummary();
+    }
+
+    /**
+     * @return résumé encodé comme dans l'en-tête des sauvegardes
+     */
+    public static byte[] encodeSummary(GameSummary summary) {
+        Writer out = new Writer();
+        out.writeInt(variantCode(summary.getVariant()));
+        out.writeInt(summary.getRound());
+        out.writeInt(summary.getDeckRemaining());
+        out.writeLong(summary.getSavedAt());
+        out.writeInt(summary.getPlayerNames().size());
+        for (int i = 0; i < summary.getPlayerNames().size(); i++) {
+            out.writeString(summary.getPlayerNames().get(i));
+            StrategyType strategy = summary.getStrategies().get(i);
+            out.writeInt(strategy == null ? 0 : 1 + strategy.ordinal());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException si le résumé est tronqué ou corrompu
+     * @see #encodeSummary(GameSummary)
+     */
+    public static GameSummary decodeSummary(byte[] bytes) {
+        return new Reader(bytes, 0).nextSummary();
+    }
+
+    /**
+     * @return code de la variante dans les formats binaires (sauvegardes, rejeux)
+     * @throws IllegalArgumentException pour une variante sans code
+     */
+    public static int variantCode(GameVariant variant) {
+        if (variant == null || variant instanceof StandardVariant) {
+            return 0;
+        }
+        if (variant instanceof ReverseScoringVariant) {
+            return 1;
+        }
+        if (variant instanceof FullHandVariant) {
+            return 2;
+        }
+        throw new IllegalArgumentException("Unsupported variant: " + variant.getName());
+    }
+
+    /**
+     * @return nouvelle variante de code <code>code</code>
+     * @see #variantCode(GameVariant)
+     */
+    public static GameVariant variant(int code) {
+        return switch (code) {
+            case 0 -> new StandardVariant();
+            case 1 -> new ReverseScoringVariant();
+            case 2 -> new FullHandVariant();
+            default -> throw new IllegalArgumentException("Unknown variant code: " + code);
+        };
+    }
+
+    private static int seat(List<Player> players, Player player) {
+        int seat = players.indexOf(player);
+        if (seat < 0) {
+            throw new IllegalArgumentException("Player not in game: " + player.getName());
+        }
+        return seat;
+    }
+
+    private static final class Writer {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        private long extensions;
+
+        void writeBytes(byte[] bytes) {
+            out.write(bytes, 0, bytes.length);
+        }
+
+        void writeInt(int value) {
+            writeLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(utf8.length);
+            out.write(utf8, 0, utf8.length);
+        }
+
+        void writeCards(List<? extends Card> cards) {
+            writeInt(cards.size());
+            for (Card card : cards) {
+                writeInt(ordinal(card));
+            }
+        }
+
+        void writeFaces(Offer offer) {
+            writeInt(offer.getFaceUpCard() == null ? 0 : 1 + ordinal(offer.getFaceUpCard()));
+            writeInt(offer.getFaceDownCard() == null ? 0 : 1 + ordinal(offer.getFaceDownCard()));
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+
+        private int ordinal(Card card) {
+            int ordinal = card.getOrdinal();
+            if (Card.of(ordinal) != card) {
+                throw new IllegalArgumentException("Card cannot be saved: " + card);
+            }
+            if (card instanceof ExtensionCard) {
+                extensions |= 1L << ordinal;
+            }
+            return ordinal;
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+        private Card[] extensions;
+
+        Reader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        int nextInt() {
+            long value = nextLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Corrupted save at byte " + position);
+            }
+            return (int) value;
+        }
+
+        long nextLong() {
+            long value = 0L;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                if (position >= bytes.length) {
+                    throw new IllegalArgumentException("Truncated save");
+                }
+                int b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Corrupted save at byte " + position);
+        }
+
+        void skip(int length) {
+            if (length > bytes.length - position) {
+                throw new IllegalArgumentException("Truncated save");
+            }
+            position += length;
+        }
+
+        /**
+         * Lit la table des extensions : les ordinaux d'extension lus ensuite
+         * désignent l'extension de même nom dans le registre actuel.
+         */
+        void readExtensions() {
+            extensions = new Card[CardMask.MAX_ORDINAL + 1];
+            int count = nextInt();
+            for (int i = 0; i < count; i++) {
+                int ordinal = nextInt();
+                String name = nextString();
+                if (ordinal < CardMask.FIRST_EXTENSION_ORDINAL || ordinal > CardMask.MAX_ORDINAL) {
+                    throw new IllegalArgumentException("Invalid extension ordinal in save: " + ordinal);
+                }
+                ExtensionCard extension = ExtensionManager.getExtension(name);
+                if (extension == null) {
+                    throw new IllegalArgumentException("Unknown extension in save: " + name);
+                }
+                extensions[ordinal] = extension;
+            }
+        }
+
+        GameSummary nextSummary() {
+            GameVariant variant = variant(nextInt());
+            int round = nextInt();
+            int deckRemaining = nextInt();
+            long savedAt = nextLong();
+            int playerCount = nextInt();
+            if (playerCount > bytes.length - position) {
+                throw new IllegalArgumentException("Truncated save");
+            }
+            StrategyType[] values = StrategyType.values();
+            ArrayList<String> names = new ArrayList<>(playerCount);
+            ArrayList<StrategyType> strategies = new ArrayList<>(playerCount);
+            for (int i = 0; i < playerCount; i++) {
+                names.add(nextString());
+                int strategy = nextInt();
+                if (strategy > values.length) {
+                    throw new IllegalArgumentException("Unknown strategy in save: " + (strategy - 1));
+                }
+                strategies.add(strategy == 0 ? null : values[strategy - 1]);
+            }
+            return new GameSummary(variant, names, strategies, round, deckRemaining, savedAt);
+        }
+
+        String nextString() {
+            int length = nextInt();
+            if (length > bytes.length - position) {
+                throw new IllegalArgumentException("Truncated save");
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        Card nextCard() {
+            return card(nextInt());
+        }
+
+        ArrayList<Card> nextCards() {
+            int count = nextInt();
+            if (count > bytes.length - position) {
+                throw new IllegalArgumentException("Truncated save");
+            }
+            ArrayList<Card> cards = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                cards.add(nextCard());
+            }
+            return cards;
+        }
+
+        Offer nextOffer(Player owner) {
+            int faceUp = nextInt();
+            int faceDown = nextInt();
+            return new Offer(owner, faceUp == 0 ? null : card(faceUp - 1), faceDown == 0 ? null : card(faceDown - 1));
+        }
+
+        Player nextPlayer(List<Player> players) {
+            int seat = nextInt();
+            if (seat >= players.size()) {
+                throw new IllegalArgumentException("Unknown player in save: " + seat);
+            }
+            return players.get(seat);
+        }
+
+        private Card card(int ordinal) {
+            Card card = extensions != null && ordinal >= CardMask.FIRST_EXTENSION_ORDINAL
+                    ? (ordinal <= CardMask.MAX_ORDINAL ? extensions[ordinal] : null)
+                    : Card.of(ordinal);
+            if (card == null) {
+                throw new IllegalArgumentException("Unknown card in save: " + ordinal);
+            }
+            return card;
+        }
+    }
+}
@@ -2,10 +2,12 @@ package model.game;
 
 import model.cards.ExtensionCard;
 import model.players.Player;
+import model.players.strategies.SearchBudget;
 import model.players.strategies.StrategyType;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Configuration sérialisable d'une partie.
@@ -19,6 +21,7 @@ import java.util.ArrayList;
  *   <li>Variante de jeu sélectionnée</li>
  *   <li>Extensions choisies</li>
  *   <li>Nombre de joueurs</li>
+ *   <li>Budget des stratégies simulées ({@link SearchBudget})</li>
  * </ul>
  * 
  * <p><b>Classe interne PlayerConfiguration :</b></p>
@@ -45,6 +48,7 @@ public class GameConfiguration implements Serializable {
     private final GameVariant variant;
     private final ArrayList<ExtensionCard> selectedExtensions;
     private final int playerCount;
+    private final SearchBudget searchBudget;
 
     public GameConfiguration(ArrayList<Player> players, GameVariant variant,
             ArrayList<ExtensionCard> selectedExtensions) {
@@ -52,6 +56,7 @@ public class GameConfiguration implements Serializable {
         this.variant = variant;
         this.selectedExtensions = new ArrayList<>(selectedExtensions);
         this.playerCount = players.size();
+        this.searchBudget = SearchBudget.DEFAULT;
 
         for (Player player : players) {
             boolean isHuman = player instanceof model.players.HumanPlayer;
@@ -65,6 +70,32 @@ public class GameConfiguration implements Serializable {
         }
     }
 
+    private GameConfiguration(ArrayList<PlayerConfiguration> playerConfigs, GameVariant variant,
+            ArrayList<ExtensionCard> selectedExtensions, int playerCount, SearchBudget searchBudget) {
+        this.playerConfigs = playerConfigs;
+        this.variant = variant;
+        this.selectedExtensions = selectedExtensions;
+        this.playerCount = playerCount;
+        this.searchBudget = searchBudget;
+    }
+
+    public static GameConfiguration fromPlayerConfigs(List<PlayerConfiguration> playerConfigs, GameVariant variant,
+            List<ExtensionCard> selectedExtensions) {
+        return fromPlayerConfigs(playerConfigs, variant, selectedExtensions, SearchBudget.DEFAULT);
+    }
+
+    /**
+     * @param searchBudget budget des stratégies simulées des joueurs virtuels
+     */
+    public static GameConfiguration fromPlayerConfigs(List<PlayerConfiguration> playerConfigs, GameVariant variant,
+            List<ExtensionCard> selectedExtensions, SearchBudget searchBudget) {
+        if (searchBudget == null) {
+            throw new IllegalArgumentException("searchBudget must not be null");
+        }
+        return new GameConfiguration(new ArrayList<>(playerConfigs), variant,
+                new ArrayList<>(selectedExtensions), playerConfigs.size(), searchBudget);
+    }
+
     public ArrayList<PlayerConfiguration> getPlayerConfigs() {
         return playerConfigs;
     }
@@ -81,6 +112,13 @@ public class GameConfiguration implements Serializable {
         return playerCount;
     }
 
+    /**
+     * @return budget des stratégies simulées ({@link SearchBudget#DEFAULT} pour une configuration enregistrée sans budget)
+     */
+    public SearchBudget getSearchBudget() {
+        return searchBudget != null ? searchBudget : SearchBudget.DEFAULT;
+    }
+
     public static class PlayerConfiguration implements Serializable {
         private static final long serialVersionUID = 1L;
 
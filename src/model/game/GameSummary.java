@@ -0,0 +1,104 @@
+package model.game;
+
+import model.players.Player;
+import model.players.VirtualPlayer;
+import model.players.strategies.StrategyType;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Résumé d'une partie sauvegardée, lisible sans charger la partie.
+ *
+ * <p>Il est écrit en en-tête de chaque sauvegarde ({@link GameCodec}) et dans
+ * le catalogue des sauvegardes, pour lister les parties avec leurs détails.</p>
+ *
+ * <p><b>Contenu :</b></p>
+ * <ul>
+ *   <li>Variante</li>
+ *   <li>Joueurs : nom et stratégie ({@code null} pour un joueur humain)</li>
+ *   <li>Numéro du dernier tour commencé, cartes restant dans le deck</li>
+ *   <li>Date de la sauvegarde</li>
+ * </ul>
+ *
+ * @see GameCodec#readSummary(byte[])
+ */
+public final class GameSummary {
+    private final GameVariant variant;
+    private final List<String> playerNames;
+    private final List<StrategyType> strategies;
+    private final int round;
+    private final int deckRemaining;
+    private final long savedAt;
+
+    public GameSummary(GameVariant variant, List<String> playerNames, List<StrategyType> strategies,
+                       int round, int deckRemaining, long savedAt) {
+        if (playerNames.size() != strategies.size()) {
+            throw new IllegalArgumentException("Expected one strategy per player");
+        }
+        this.variant = variant;
+        this.playerNames = Collections.unmodifiableList(new ArrayList<>(playerNames));
+        this.strategies = Collections.unmodifiableList(new ArrayList<>(strategies));
+        this.round = round;
+        this.deckRemaining = deckRemaining;
+        this.savedAt = savedAt;
+    }
+
+    /**
+     * @param savedAt date de la sauvegarde (millisecondes depuis l'époque Unix)
+     */
+    public static GameSummary of(Game game, long savedAt) {
+        ArrayList<String> names = new ArrayList<>();
+        ArrayList<StrategyType> strategies = new ArrayList<>();
+        for (Player player : game.getPlayers()) {
+            names.add(player.getName());
+            strategies.add(player instanceof VirtualPlayer ? ((VirtualPlayer) player).getStrategy() : null);
+        }
+        return new GameSummary(game.getVariant(), names, strategies, game.getRoundCounter(),
+                game.getDeck().getRemainingCount(), savedAt);
+    }
+
+    public GameVariant getVariant() {
+        return variant;
+    }
+
+    public List<String> getPlayerNames() {
+        return playerNames;
+    }
+
+    /**
+     * @return stratégie de chaque joueur, {@code null} pour un joueur humain
+     */
+    public List<StrategyType> getStrategies() {
+        return strategies;
+    }
+
+    public int getRound() {
+        return round;
+    }
+
+    public int getDeckRemaining() {
+        return deckRemaining;
+    }
+
+    public long getSavedAt() {
+        return savedAt;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(variant.getName()).append(", ");
+        for (int i = 0; i < playerNames.size(); i++) {
+            sb.append(i == 0 ? "" : ", ").append(playerNames.get(i));
+            sb.append(strategies.get(i) == null ? " (human)" : " (" + strategies.get(i) + ")");
+        }
+        sb.append(", round ").append(round).append(", ").append(deckRemaining).append(" cards left");
+        if (savedAt > 0) {
+            sb.append(", saved ").append(new SimpleDateFormat("yyyy-MM-dd HH:mm").format(new Date(savedAt)));
+        }
+        return sb.toString();
+    }
+}
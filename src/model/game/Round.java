@@ -30,7 +30,8 @@ import java.util.Comparator;
  *   <li>Si X a déjà joué, on choisit celui avec la plus forte carte visible restante</li>
  * </ul>
  * 
- * <p><b>Compteur statique :</b> Suit le numéro du tour en cours.</p>
+ * <p><b>Numéro de tour :</b> Attribué par la {@link Game} qui crée le tour,
+ * afin que plusieurs parties puissent coexister dans la même JVM.</p>
  * 
  * @see model.game.FullHandRound
  * @see controller.RoundController
@@ -40,24 +41,20 @@ public class Round implements Serializable {
     private ArrayList<Offer> offers;
     private ArrayList<Player> players;
     private boolean isOver;
-    private static int roundCounter = 0;
+    private final int roundNumber;
     private final Deck deck;
 
     private ArrayList<Player> alreadyPlayed;
 
-    public Round(ArrayList<Player> players, Deck deck) {
+    public Round(ArrayList<Player> players, Deck deck, int roundNumber) {
         this.players = players;
         this.offers = new ArrayList<>();
         this.deck = deck;
-        roundCounter++;
+        this.roundNumber = roundNumber;
     }
 
-    public static int getRoundCounter() {
-        return roundCounter;
-    }
-
-    public static void setRoundCounter(int counter) {
-        roundCounter = counter;
+    public int getRoundNumber() {
+        return roundNumber;
     }
 
     public ArrayList<Offer> getAvailableOffers() {
@@ -0,0 +1,302 @@
+package model.game;
+
+import model.cards.Card;
+import model.cards.CardMask;
+import model.cards.ExtensionCard;
+import model.cards.Face;
+import model.cards.Suit;
+import model.cards.Trophy;
+import model.cards.TrophyType;
+import model.players.Jest;
+import model.players.Player;
+import model.players.Scorer;
+import model.players.ScorerFactory;
+
+import java.util.List;
+
+/**
+ * Moteur d'attribution des trophées de fin de partie.
+ *
+ * <p>Au lieu de reparcourir tous les Jests pour chaque trophée, le moteur
+ * construit une seule fois un résumé par joueur, puis résout chaque
+ * {@link TrophyType} à partir de ces résumés.</p>
+ *
+ * <p><b>Résumé par joueur :</b></p>
+ * <ul>
+ *   <li>Masque des cartes du Jest (plus forte et plus faible valeur par couleur)</li>
+ *   <li>Nombre de cartes par valeur, cartes d'extension comprises</li>
+ *   <li>Possession du Joker</li>
+ *   <li>Meilleure carte (valeur puis force de couleur) pour les départages</li>
+ *   <li>Score, calculé à la demande par le scorer de la configuration ({@link ScorerFactory})</li>
+ * </ul>
+ *
+ * <p>Les trophées sont attribués dans l'ordre : un trophée remporté rejoint
+ * le Jest du gagnant et seul le résumé de ce joueur est recalculé avant
+ * le trophée suivant.</p>
+ *
+ * <p><b>Définition des trophées :</b> La condition associée à chaque carte
+ * est décrite par {@link model.cards.Trophy#of(Card)}, indépendamment de la
+ * partie.</p>
+ *
+ * @see model.game.Game#assignTrophies()
+ * @see model.cards.TrophyType
+ */
+public class TrophyEngine {
+    private final Jest[] jests;
+    private final GameVariant variant;
+    private final PlayerStats[] stats;
+    private Scorer scorer;
+
+    public TrophyEngine(List<Player> players, GameVariant variant) {
+        this(jestsOf(players), variant);
+    }
+
+    /**
+     * @param jests Jests des joueurs, dans l'ordre des joueurs
+     * @param variant variante utilisée pour le calcul des scores
+     */
+    public TrophyEngine(Jest[] jests, GameVariant variant) {
+        this.jests = jests;
+        this.variant = variant;
+        this.stats = new PlayerStats[jests.length];
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = new PlayerStats();
+            stats[i].load(jests[i]);
+        }
+    }
+
+    private static Jest[] jestsOf(List<Player> players) {
+        Jest[] jests = new Jest[players.size()];
+        for (int i = 0; i < jests.length; i++) {
+            jests[i] = players.get(i).getJest();
+        }
+        return jests;
+    }
+
+    /**
+     * Attribue chaque trophée à son gagnant, dans l'ordre de la liste.
+     *
+     * @param trophies trophées de la partie
+     */
+    public void assignTrophies(List<Card> trophies) {
+        for (Card trophy : trophies) {
+            int winner = determineWinner(trophy);
+            if (winner >= 0) {
+                jests[winner].addCard(trophy);
+                stats[winner].load(jests[winner]);
+            }
+        }
+    }
+
+    /**
+     * @param trophy trophée à résoudre
+     * @return index du joueur gagnant, ou -1 si le trophée n'est pas attribué
+     */
+    public int determineWinner(Card trophy) {
+        Trophy rule = Trophy.of(trophy);
+        return switch (rule.getType()) {
+            case HIGHEST_FACE -> evaluateHighestFace(rule.getSuit());
+            case LOWEST_FACE -> evaluateLowestFace(rule.getSuit());
+            case MAJORITY_FACE_VALUE -> evaluateMajorityFaceValue(rule.getFace());
+            case JOKER -> evaluateJokerTrophy();
+            case BEST_JEST -> evaluateBestJest(false);
+            case BEST_JEST_NO_JOKER -> evaluateBestJest(true);
+            default -> -1;
+        };
+    }
+
+    private int evaluateHighestFace(Suit suit) {
+        int best = -1;
+        int bestFace = -1;
+        for (int i = 0; i < stats.length; i++) {
+            int face = stats[i].highestFace(suit);
+            if (face > bestFace) {
+                bestFace = face;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private int evaluateLowestFace(Suit suit) {
+        int best = -1;
+        int bestFace = Integer.MAX_VALUE;
+        for (int i = 0; i < stats.length; i++) {
+            int face = stats[i].lowestFace(suit);
+            if (face >= 0 && face < bestFace) {
+                bestFace = face;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Majorité de cartes d'une valeur ; en cas d'égalité, le joueur possédant
+     * la carte de cette valeur dans la couleur la plus forte l'emporte.
+     *
+     * <p>Le compte est cumulé d'un joueur à l'autre, comme dans le calcul
+     * d'origine de {@link Game} : le moteur attribue les mêmes trophées.</p>
+     */
+    private int evaluateMajorityFaceValue(Face face) {
+        int count = 0;
+        int maxCount = -1;
+        long ties = 0L;
+        for (int i = 0; i < stats.length; i++) {
+            count += stats[i].faceCount(face);
+            if (count > maxCount) {
+                maxCount = count;
+                ties = 1L << i;
+            } else if (count == maxCount) {
+                ties |= 1L << i;
+            }
+        }
+        if (Long.bitCount(ties) == 1) {
+            return Long.numberOfTrailingZeros(ties);
+        }
+
+        int best = -1;
+        int bestStrength = -1;
+        for (int i = 0; i < stats.length; i++) {
+            if ((ties & (1L << i)) != 0) {
+                int strength = stats[i].strongestSuit(face);
+                if (strength > bestStrength) {
+                    bestStrength = strength;
+                    best = i;
+                }
+            }
+        }
+        return best;
+    }
+
+    private int evaluateJokerTrophy() {
+        for (int i = 0; i < stats.length; i++) {
+            if (stats[i].hasJoker) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Meilleur score ; en cas d'égalité, le joueur possédant la carte de plus
+     * forte valeur (puis de plus forte couleur) l'emporte.
+     */
+    private int evaluateBestJest(boolean withoutJoker) {
+        int maxScore = Integer.MIN_VALUE;
+        long ties = 0L;
+        for (int i = 0; i < stats.length; i++) {
+            if (withoutJoker && stats[i].hasJoker) {
+                continue;
+            }
+            int score = score(i);
+            if (score > maxScore) {
+                maxScore = score;
+                ties = 1L << i;
+            } else if (score == maxScore) {
+                ties |= 1L << i;
+            }
+        }
+        if (Long.bitCount(ties) <= 1) {
+            return ties == 0 ? -1 : Long.numberOfTrailingZeros(ties);
+        }
+
+        int best = -1;
+        int bestCard = -1;
+        for (int i = 0; i < stats.length; i++) {
+            if ((ties & (1L << i)) != 0 && stats[i].bestCard > bestCard) {
+                bestCard = stats[i].bestCard;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private int score(int playerIndex) {
+        PlayerStats playerStats = stats[playerIndex];
+        if (!playerStats.scored) {
+            if (scorer == null) {
+                long cards = 0L;
+                for (Jest jest : jests) {
+                    cards |= jest.getMask();
+                }
+                scorer = ScorerFactory.forConfiguration(variant, cards);
+            }
+            playerStats.score = scorer.score(jests[playerIndex]);
+            playerStats.scored = true;
+        }
+        return playerStats.score;
+    }
+
+    /**
+     * Résumé du Jest d'un joueur, construit en un seul passage.
+     */
+    private static final class PlayerStats {
+        private long mask;
+        private boolean hasJoker;
+        private final int[] extensionFaceCounts = new int[Face.values().length];
+        private int bestCard;
+        private int score;
+        private boolean scored;
+
+        private void load(Jest jest) {
+            mask = jest.getMask();
+            hasJoker = jest.hasJoker();
+            for (int i = 0; i < extensionFaceCounts.length; i++) {
+                extensionFaceCounts[i] = 0;
+            }
+            for (ExtensionCard extension : jest.getExtensionCards()) {
+                for (Face face : Face.values()) {
+                    if (extension.getFaceValue() == face.getFaceValue()) {
+                        extensionFaceCounts[face.ordinal()]++;
+                    }
+                }
+            }
+            bestCard = -1;
+            for (int f = Face.values().length - 1; f >= 0 && bestCard < 0; f--) {
+                Face face = Face.values()[f];
+                int strength = strongestSuit(face);
+                if (strength >= 0) {
+                    bestCard = face.getFaceValue() * (Suit.values().length + 1) + strength;
+                }
+            }
+            scored = false;
+        }
+
+        private int faces(Suit suit) {
+            return (int) ((mask & CardMask.suitMask(suit)) >>> CardMask.ordinal(suit, Face.ACE));
+        }
+
+        /**
+         * @return valeur faciale la plus forte dans la couleur, ou -1
+         */
+        private int highestFace(Suit suit) {
+            int faces = faces(suit);
+            return faces == 0 ? -1 : Face.values()[31 - Integer.numberOfLeadingZeros(faces)].getFaceValue();
+        }
+
+        /**
+         * @return valeur faciale la plus faible dans la couleur, ou -1
+         */
+        private int lowestFace(Suit suit) {
+            int faces = faces(suit);
+            return faces == 0 ? -1 : Face.values()[Integer.numberOfTrailingZeros(faces)].getFaceValue();
+        }
+
+        private int faceCount(Face face) {
+            return CardMask.count(mask & CardMask.faceMask(face)) + extensionFaceCounts[face.ordinal()];
+        }
+
+        /**
+         * @return force de la couleur la plus forte parmi les cartes de cette valeur, ou -1
+         */
+        private int strongestSuit(Face face) {
+            long cards = mask & CardMask.faceMask(face);
+            if (cards == 0) {
+                return -1;
+            }
+            int ordinal = 63 - Long.numberOfLeadingZeros(cards);
+            return CardMask.suitOf(ordinal).getStrength();
+        }
+    }
+}
@@ -9,7 +9,11 @@
  *   <li>{@link model.game.Game} - État global de la partie</li>
  *   <li>{@link model.game.Round} - Déroulement d'un tour</li>
  *   <li>{@link model.game.GameVariant} - Interface des variantes</li>
- *   <li>{@link model.game.ExtensionManager} - Gestion des extensions</li>
+ *   <li>{@link model.game.ExtensionManager} - Registre des extensions</li>
+ *   <li>{@link model.game.ExtensionProvider} - Extensions chargées au démarrage</li>
+ *   <li>{@link model.game.TrophyEngine} - Attribution des trophées</li>
+ *   <li>{@link model.game.GameCodec} - Format binaire des sauvegardes</li>
+ *   <li>{@link model.game.GameSummary} - Résumé d'une partie sauvegardée</li>
  * </ul>
  * 
  * @see model.game.Game
@@ -9,6 +9,7 @@
  *   <li>{@link model.cards} - Cartes et deck</li>
  *   <li>{@link model.game} - Logique de partie et tours</li>
  *   <li>{@link model.players} - Joueurs et stratégies</li>
+ *   <li>{@link model.simulation} - Parties sans interface entre IA</li>
  * </ul>
  */
 package model;
\ No newline at end of file
@@ -1,9 +1,18 @@
 package model.players;
 
 import model.cards.Card;
+import model.cards.CardMask;
+import model.cards.ExtensionCard;
+import model.cards.Face;
+import model.cards.Suit;
+import model.cards.Zobrist;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Représente la collection de cartes d'un joueur.
@@ -18,6 +27,20 @@ import java.util.ArrayList;
  *   <li>Conservation de l'ordre d'acquisition</li>
  * </ul>
  * 
+ * <p><b>Masque de cartes :</b> Le Jest maintient en parallèle de sa liste un
+ * masque de bits ({@link model.cards.CardMask}) permettant les tests
+ * d'appartenance en temps constant.</p>
+ * 
+ * <p><b>Décompte incrémental :</b> Chaque {@link #addCard(Card)} met à jour
+ * en O(1) le masque et la liste des cartes d'extension. Nombre de cartes par
+ * couleur, valeurs présentes, Joker et paires noires s'en déduisent sans
+ * parcourir le Jest, et le score se calcule sans rescanner les cartes
+ * (voir {@link ScoreVisitorImpl#scoreIfAdded(Jest, Card)} pour une simulation
+ * d'ajout qui ne modifie pas le Jest).</p>
+ * 
+ * <p><b>Empreinte :</b> l'empreinte de Zobrist des cartes du Jest
+ * ({@link #getZobristHash()}) est mise à jour à chaque ajout.</p>
+ * 
  * <p><b>Pattern Visitor :</b></p>
  * <pre>
  * jest.accept(scoreVisitor);  // Parcourt toutes les cartes
@@ -32,25 +55,117 @@ import java.util.ArrayList;
 public class Jest implements Serializable {
     private static final long serialVersionUID = 1L;
     private ArrayList<Card> cards;
+    private transient long mask;
+    private transient long zobristHash;
+    private transient ArrayList<ExtensionCard> extensionCards;
+    private transient List<ExtensionCard> extensionCardsView;
 
     public Jest() {
         this.cards = new ArrayList<>();
+        this.mask = 0L;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        mask = 0L;
+        zobristHash = 0L;
+        extensionCards = null;
+        extensionCardsView = null;
+        for (Card card : cards) {
+            track(card);
+        }
     }
 
     public void addCard(Card card) {
         cards.add(card);
+        track(card);
+    }
+
+    /**
+     * Vide le Jest (restauration d'une position simulée).
+     */
+    public void clear() {
+        cards.clear();
+        mask = 0L;
+        zobristHash = 0L;
+        extensionCards = null;
+        extensionCardsView = null;
+    }
+
+    private void track(Card card) {
+        if (card == null) {
+            return;
+        }
+        mask |= card.getMask();
+        zobristHash ^= Zobrist.key(Zobrist.JEST, card);
+        if (card instanceof ExtensionCard) {
+            if (extensionCards == null) {
+                extensionCards = new ArrayList<>();
+                extensionCardsView = Collections.unmodifiableList(extensionCards);
+            }
+            extensionCards.add((ExtensionCard) card);
+        }
     }
 
     public ArrayList<Card> getCards() {
         return cards;
     }
 
+    public long getMask() {
+        return mask;
+    }
+
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    /**
+     * @return {@code true} si le Jest ne contient que des cartes du jeu de base
+     */
+    public boolean isBaseDeckOnly() {
+        return (mask & CardMask.EXTENSIONS_MASK) == 0 && cards.size() == CardMask.count(mask);
+    }
+
+    public List<ExtensionCard> getExtensionCards() {
+        return extensionCards == null ? Collections.emptyList() : extensionCardsView;
+    }
+
+    public boolean hasJoker() {
+        return (mask & CardMask.JOKER_BIT) != 0;
+    }
+
+    public int getSuitCount(Suit suit) {
+        return CardMask.count(mask & CardMask.suitMask(suit));
+    }
+
+    /**
+     * @param suit couleur
+     * @return valeurs présentes dans cette couleur (bit <code>i</code> pour {@code Face.values()[i]})
+     */
+    public int getFaceSet(Suit suit) {
+        return (int) ((mask & CardMask.suitMask(suit)) >>> CardMask.ordinal(suit, Face.ACE));
+    }
+
+    public int getBlackPairCount() {
+        return Integer.bitCount(getFaceSet(Suit.SPADES) & getFaceSet(Suit.CLUBS));
+    }
+
+    public boolean contains(Card card) {
+        long bit = card.getMask();
+        return bit != 0 ? (mask & bit) != 0 : cards.contains(card);
+    }
+
+    public boolean containsAny(long cardsMask) {
+        return (mask & cardsMask) != 0;
+    }
+
     public void accept(ScoreVisitor visitor) {
-        for (Card card : cards) {
-            visitor.visit(card);
-        }
         if (visitor instanceof ScoreVisitorImpl) {
             ((ScoreVisitorImpl) visitor).countJestScore(this);
+            return;
+        }
+        for (Card card : cards) {
+            visitor.visit(card);
         }
     }
 
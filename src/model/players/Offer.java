@@ -1,7 +1,10 @@
 package model.players;
 
 import model.cards.Card;
+import model.cards.Zobrist;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 
@@ -27,6 +30,9 @@ import java.util.ArrayList;
  * 
  * <p><b>Propriétaire :</b> Référence au joueur ayant créé l'offre.</p>
  * 
+ * <p><b>Empreinte :</b> l'empreinte de Zobrist des deux emplacements
+ * ({@link #getZobristHash()}) est mise à jour à chaque carte prise ou posée.</p>
+ * 
  * @see model.players.Player
  * @see model.game.Round
  */
@@ -35,11 +41,18 @@ public class Offer implements Serializable {
     private Player owner;
     private Card faceUpCard;
     private Card faceDownCard;
+    private transient long zobristHash;
 
     public Offer(Player owner, Card faceUpCard, Card faceDownCard) {
         this.owner = owner;
         this.faceUpCard = faceUpCard;
         this.faceDownCard = faceDownCard;
+        this.zobristHash = Zobrist.key(Zobrist.FACE_UP, faceUpCard) ^ Zobrist.key(Zobrist.FACE_DOWN, faceDownCard);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        zobristHash = Zobrist.key(Zobrist.FACE_UP, faceUpCard) ^ Zobrist.key(Zobrist.FACE_DOWN, faceDownCard);
     }
 
     public Player getOwner() {
@@ -50,10 +63,12 @@ public class Offer implements Serializable {
         if (takeFaceUp) {
             Card takenCard = faceUpCard;
             faceUpCard = null;
+            zobristHash ^= Zobrist.key(Zobrist.FACE_UP, takenCard);
             return takenCard;
         } else {
             Card takenCard = faceDownCard;
             faceDownCard = null;
+            zobristHash ^= Zobrist.key(Zobrist.FACE_DOWN, takenCard);
             return takenCard;
         }
     }
@@ -71,13 +86,19 @@ public class Offer implements Serializable {
     }
 
     public void setFaceUpCard(Card faceUpCard) {
+        zobristHash ^= Zobrist.key(Zobrist.FACE_UP, this.faceUpCard) ^ Zobrist.key(Zobrist.FACE_UP, faceUpCard);
         this.faceUpCard = faceUpCard;
     }
 
     public void setFaceDownCard(Card faceDownCard) {
+        zobristHash ^= Zobrist.key(Zobrist.FACE_DOWN, this.faceDownCard) ^ Zobrist.key(Zobrist.FACE_DOWN, faceDownCard);
         this.faceDownCard = faceDownCard;
     }
 
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
     public ArrayList<Card> getOfferedCard() {
         ArrayList<Card> cards = new ArrayList<>();
 
@@ -2,6 +2,7 @@ package model.players;
 
 import view.console.PlayerView;
 import model.cards.Card;
+import model.cards.Zobrist;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -115,6 +116,14 @@ public abstract class Player implements Serializable {
         }
     }
 
+    /**
+     * Empreinte de Zobrist du Jest, de la main et de l'offre du joueur, indépendante de sa place.
+     */
+    public long getZobristHash() {
+        long hash = jest.getZobristHash() ^ Zobrist.of(Zobrist.HAND, hand);
+        return offer == null ? hash : hash ^ offer.getZobristHash();
+    }
+
     public void calculateScore(ScoreVisitor visitor) {
         jest.accept(visitor);
         if (visitor instanceof ScoreVisitorImpl) {
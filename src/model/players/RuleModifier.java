@@ -0,0 +1,46 @@
+package model.players;
+
+/**
+ * Énumération des modificateurs de règles de score activables par les cartes d'extension.
+ *
+ * <p>Un {@link model.cards.CardEffect} active un modificateur pendant la visite
+ * ({@link ScoreVisitorImpl#setFlag(RuleModifier, boolean)}) ; le visiteur les
+ * conserve dans un champ de bits et teste chacun d'une seule opération.</p>
+ *
+ * <p><b>Modificateurs disponibles :</b></p>
+ * <ul>
+ *   <li><b>NO_NEGATIVE_DIAMONDS</b> - Les Carreaux comptent en positif</li>
+ *   <li><b>NO_NEGATIVE_HEARTS</b> - Les Cœurs ne comptent plus en négatif avec le Joker</li>
+ * </ul>
+ *
+ * <p>Au plus 32 modificateurs (un bit d'<code>int</code> chacun).</p>
+ *
+ * @see ScoreVisitorImpl
+ */
+public enum RuleModifier {
+    NO_NEGATIVE_DIAMONDS,
+    NO_NEGATIVE_HEARTS;
+
+    private static final RuleModifier[] VALUES = values();
+
+    private final int bit = 1 << ordinal();
+
+    /**
+     * @return bit du modificateur dans le champ de bits du visiteur
+     */
+    public int bit() {
+        return bit;
+    }
+
+    /**
+     * @return modificateur de nom <code>name</code>, {@code null} s'il est inconnu
+     */
+    public static RuleModifier fromName(String name) {
+        for (RuleModifier modifier : VALUES) {
+            if (modifier.name().equals(name)) {
+                return modifier;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,132 @@
+package model.players;
+
+import model.cards.CardMask;
+import model.cards.Face;
+import model.cards.Suit;
+
+/**
+ * Table des scores précalculés pour tous les Jests du jeu de base.
+ * 
+ * <p>Le jeu de base compte 17 cartes (16 cartes à couleur et le Joker) :
+ * il n'existe donc que 2<sup>17</sup> = 131 072 Jests possibles. Leur score
+ * selon les règles standard est calculé une seule fois, au premier accès,
+ * et stocké dans un tableau indexé par le masque du Jest
+ * ({@link model.cards.CardMask}).</p>
+ * 
+ * <p><b>Règles appliquées :</b></p>
+ * <ul>
+ *   <li>Piques et Trèfles positifs, Carreaux négatifs</li>
+ *   <li>As seul de sa couleur : 5 points</li>
+ *   <li>Cœurs : 0 sans Joker, positifs avec Joker et les 4 Cœurs, négatifs sinon</li>
+ *   <li>Paires noires : +2 par paire</li>
+ *   <li>Joker sans Cœur : +4</li>
+ * </ul>
+ * 
+ * <p>Les Jests contenant des cartes d'extension ne sont pas couverts et restent
+ * calculés par {@link ScoreVisitorImpl}.</p>
+ * 
+ * <p><b>Utilisation :</b></p>
+ * <pre>
+ * if (ScoreTable.covers(jest)) {
+ *     int score = ScoreTable.score(jest.getMask());
+ * }
+ * </pre>
+ * 
+ * @see model.players.ScoreVisitorImpl
+ */
+public final class ScoreTable {
+    private static final int SIZE = 1 << (CardMask.JOKER_ORDINAL + 1);
+    private static final int SOLO_ACE_VALUE = 5;
+
+    private ScoreTable() {
+    }
+
+    /**
+     * Indique si le score du Jest peut être lu dans la table.
+     *
+     * @param jest Jest à tester
+     * @return {@code true} si le Jest ne contient que des cartes du jeu de base
+     */
+    public static boolean covers(Jest jest) {
+        return jest.isBaseDeckOnly();
+    }
+
+    /**
+     * Retourne le score standard d'un Jest du jeu de base.
+     *
+     * @param mask masque du Jest (cartes à couleur et Joker uniquement)
+     * @return score selon les règles standard
+     * @throws IllegalArgumentException si le masque contient une carte d'extension
+     */
+    public static int score(long mask) {
+        if ((mask & CardMask.EXTENSIONS_MASK) != 0) {
+            throw new IllegalArgumentException("Mask contains extension cards: " + Long.toHexString(mask));
+        }
+        return Holder.TABLE[(int) mask];
+    }
+
+    private static final class Holder {
+        static final int[] TABLE = build();
+    }
+
+    private static int[] build() {
+        int[] table = new int[SIZE];
+        for (int mask = 0; mask < SIZE; mask++) {
+            table[mask] = compute(mask);
+        }
+        return table;
+    }
+
+    private static int compute(long mask) {
+        boolean hasJoker = (mask & CardMask.JOKER_BIT) != 0;
+        long hearts = mask & CardMask.suitMask(Suit.HEARTS);
+
+        int score = suitScore(mask, Suit.SPADES) + suitScore(mask, Suit.CLUBS)
+                - suitScore(mask, Suit.DIAMONDS);
+
+        if (hasJoker) {
+            if (hearts == CardMask.suitMask(Suit.HEARTS)) {
+                score += faceSum(mask, Suit.HEARTS);
+            } else {
+                score -= suitScore(mask, Suit.HEARTS);
+            }
+            if (hearts == 0) {
+                score += 4;
+            }
+        }
+
+        for (Face face : Face.values()) {
+            if ((mask & CardMask.bit(Suit.SPADES, face)) != 0
+                    && (mask & CardMask.bit(Suit.CLUBS, face)) != 0) {
+                score += 2;
+            }
+        }
+        return score;
+    }
+
+    private static int suitScore(long mask, Suit suit) {
+        long cards = mask & CardMask.suitMask(suit);
+        if (cards == CardMask.bit(suit, Face.ACE)) {
+            return SOLO_ACE_VALUE;
+        }
+        return faceSum(mask, suit);
+    }
+
+    private static int faceSum(long mask, Suit suit) {
+        return faceSum((int) ((mask & CardMask.suitMask(suit)) >>> CardMask.ordinal(suit, Face.ACE)));
+    }
+
+    /**
+     * @param faces ensemble de valeurs d'une couleur (bit <code>i</code> pour {@code Face.values()[i]})
+     * @return somme des valeurs faciales de l'ensemble
+     */
+    static int faceSum(int faces) {
+        int sum = 0;
+        for (Face face : Face.values()) {
+            if ((faces & (1 << face.ordinal())) != 0) {
+                sum += face.getFaceValue();
+            }
+        }
+        return sum;
+    }
+}
@@ -2,7 +2,6 @@ package model.players;
 
 import model.cards.*;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,14 +24,26 @@ import java.util.Map;
  * </ul>
  * 
  * <p><b>Système de flags :</b></p>
- * <p>Les cartes d'extension peuvent activer des flags pour modifier
- * les règles de base (ex: NO_NEGATIVE_DIAMONDS, NO_NEGATIVE_HEARTS).</p>
+ * <p>Les cartes d'extension activent des modificateurs typés
+ * ({@link RuleModifier}) pour changer les règles de base ; ils sont stockés
+ * dans un champ de bits et testés sans hachage. L'ancienne interface par nom
+ * (<code>setFlag(String, boolean)</code>) n'est conservée que par compatibilité.</p>
+ * 
+ * <p><b>Sans allocation :</b> L'état (nombre de cartes, somme et masque des
+ * valeurs par couleur) est conservé dans des tableaux primitifs indexés par
+ * {@link Suit#ordinal()} et réutilisés d'un calcul à l'autre. Le Jest n'est
+ * parcouru qu'une seule fois ; le score est ensuite déduit de ces agrégats.</p>
+ * 
+ * <p><b>Table de scores :</b> La partie jeu de base d'un Jest est évaluée en
+ * temps constant par {@link ScoreTable} à partir du masque maintenu par le
+ * {@link Jest}. Seules les cartes d'extension du Jest sont ensuite parcourues
+ * pour appliquer leurs flags (corrections Carreaux/Cœurs) et leurs bonus.</p>
  * 
  * <p><b>Méthode principale :</b></p>
  * <pre>
- * visitor.resetScore();
- * jest.accept(visitor);  // Visite toutes les cartes
+ * jest.accept(visitor);
  * int total = visitor.getTotalScore();
+ * int ifTaken = visitor.scoreIfAdded(jest, card);  // Le Jest n'est pas modifié
  * </pre>
  * 
  * @see model.players.ScoreVisitor
@@ -40,34 +51,92 @@ import java.util.Map;
  * @see model.cards.ExtensionCard
  */
 public class ScoreVisitorImpl implements ScoreVisitor {
+    private static final int SUIT_COUNT = Suit.values().length;
+    private static final int HEARTS = Suit.HEARTS.ordinal();
+    private static final int DIAMONDS = Suit.DIAMONDS.ordinal();
+    private static final int ACE_BIT = 1 << Face.ACE.ordinal();
+    private static final int SOLO_ACE_VALUE = 5;
+    private static final int NO_NEGATIVE_DIAMONDS = RuleModifier.NO_NEGATIVE_DIAMONDS.bit();
+    private static final int NO_NEGATIVE_HEARTS = RuleModifier.NO_NEGATIVE_HEARTS.bit();
+
     private int totalScore;
     private boolean hasJoker;
-    private int heartCount;
-    private Map<Suit, List<Face>> suitMap;
+    private final int[] suitCounts;
+    private final int[] faceSums;
+    private final int[] faceMasks;
+    private int flags;
+    private Map<String, Boolean> customFlags;
 
-    private Map<String, Boolean> flags;
+    private ExtensionCard[] extensions;
+    private int extensionCount;
 
     public ScoreVisitorImpl() {
+        this.suitCounts = new int[SUIT_COUNT];
+        this.faceSums = new int[SUIT_COUNT];
+        this.faceMasks = new int[SUIT_COUNT];
+        this.extensions = new ExtensionCard[4];
         resetScore();
     }
 
     public void resetScore() {
         totalScore = 0;
         hasJoker = false;
-        heartCount = 0;
-        suitMap = new HashMap<>();
-        flags = new HashMap<>();
-        for (Suit suit : Suit.values()) {
-            suitMap.put(suit, new ArrayList<>());
+        for (int i = 0; i < SUIT_COUNT; i++) {
+            suitCounts[i] = 0;
+            faceSums[i] = 0;
+            faceMasks[i] = 0;
+        }
+        flags = 0;
+        if (customFlags != null) {
+            customFlags.clear();
+        }
+        for (int i = 0; i < extensionCount; i++) {
+            extensions[i] = null;
         }
+        extensionCount = 0;
+    }
+
+    public void setFlag(RuleModifier modifier, boolean active) {
+        if (active) {
+            flags |= modifier.bit();
+        } else {
+            flags &= ~modifier.bit();
+        }
+    }
+
+    public boolean hasFlag(RuleModifier modifier) {
+        return (flags & modifier.bit()) != 0;
     }
 
+    /**
+     * Compatibilité : les noms de {@link RuleModifier} activent le modificateur ;
+     * les autres noms sont conservés sans effet sur le score.
+     *
+     * @deprecated utiliser {@link #setFlag(RuleModifier, boolean)}
+     */
+    @Deprecated
     public void setFlag(String flagName, boolean active) {
-        flags.put(flagName, active);
+        RuleModifier modifier = RuleModifier.fromName(flagName);
+        if (modifier != null) {
+            setFlag(modifier, active);
+            return;
+        }
+        if (customFlags == null) {
+            customFlags = new HashMap<>();
+        }
+        customFlags.put(flagName, active);
     }
 
+    /**
+     * @deprecated utiliser {@link #hasFlag(RuleModifier)}
+     */
+    @Deprecated
     public boolean hasFlag(String flagName) {
-        return flags.getOrDefault(flagName, false);
+        RuleModifier modifier = RuleModifier.fromName(flagName);
+        if (modifier != null) {
+            return hasFlag(modifier);
+        }
+        return customFlags != null && customFlags.getOrDefault(flagName, false);
     }
 
     public boolean hasJoker() {
@@ -75,7 +144,7 @@ public class ScoreVisitorImpl implements ScoreVisitor {
     }
 
     public int getHeartCount() {
-        return heartCount;
+        return suitCounts[HEARTS];
     }
 
     @Override
@@ -85,98 +154,86 @@ public class ScoreVisitorImpl implements ScoreVisitor {
             return 0;
         } else if (card instanceof SuitCard) {
             SuitCard suitCard = (SuitCard) card;
-            suitMap.get(suitCard.getSuit()).add(suitCard.getFace());
-            if (suitCard.getSuit() == Suit.HEARTS)
-                heartCount++;
-            return suitCard.getFaceValue();
+            int suit = suitCard.getSuit().ordinal();
+            int value = suitCard.getFaceValue();
+            suitCounts[suit]++;
+            faceSums[suit] += value;
+            faceMasks[suit] |= 1 << suitCard.getFace().ordinal();
+            return value;
         } else if (card instanceof ExtensionCard) {
-
-            ((ExtensionCard) card).getEffect().applyOnVisit(this);
-            return ((ExtensionCard) card).getFaceValue();
+            ExtensionCard extension = (ExtensionCard) card;
+            extension.getEffect().applyOnVisit(this);
+            if (extensionCount == extensions.length) {
+                ExtensionCard[] grown = new ExtensionCard[extensions.length * 2];
+                System.arraycopy(extensions, 0, grown, 0, extensionCount);
+                extensions = grown;
+            }
+            extensions[extensionCount++] = extension;
+            return extension.getFaceValue();
         }
         return 0;
     }
 
     public void countJestScore(Jest jest) {
-        resetScore();
-
-        for (Card card : jest.getCards()) {
-            visit(card);
-        }
-
-        for (Card card : jest.getCards()) {
-            if (card instanceof SuitCard) {
-                SuitCard sc = (SuitCard) card;
-                int effectiveValue = sc.getFaceValue();
-
-                if (isSoloAce(sc))
-                    effectiveValue = 5;
-
-                applyColorRule(sc, effectiveValue);
-            } else if (card instanceof ExtensionCard) {
-
-                totalScore += ((ExtensionCard) card).getFaceValue();
-
-                totalScore += ((ExtensionCard) card).getEffect().calculateBonus(this);
-            }
-        }
-
-        applyBlackPairBonus();
-        applyJokerBonus();
+        score(jest.getMask(), jest.getExtensionCards(), null);
     }
 
-    private boolean isSoloAce(SuitCard sc) {
-        if (sc.getFace() == Face.ACE) {
-            List<Face> facesOfThisSuit = suitMap.get(sc.getSuit());
-            return facesOfThisSuit.size() == 1;
-        }
-        return false;
+    /**
+     * Calcule le score qu'aurait le Jest si la carte y était ajoutée, sans modifier le Jest.
+     *
+     * @param jest Jest évalué
+     * @param card carte hypothétiquement ajoutée
+     * @return score total du Jest augmenté de la carte
+     */
+    public int scoreIfAdded(Jest jest, Card card) {
+        ExtensionCard extension = card instanceof ExtensionCard ? (ExtensionCard) card : null;
+        score(jest.getMask() | card.getMask(), jest.getExtensionCards(), extension);
+        return getTotalScore();
     }
 
-    private void applyColorRule(SuitCard sc, int value) {
-        Suit suit = sc.getSuit();
-
-        if (suit == Suit.SPADES || suit == Suit.CLUBS) {
-            totalScore += value;
-        } else if (suit == Suit.DIAMONDS) {
+    private void score(long mask, List<ExtensionCard> jestExtensions, ExtensionCard extra) {
+        resetScore();
 
-            if (!hasFlag("NO_NEGATIVE_DIAMONDS")) {
-                totalScore -= value;
-            }
-        } else if (suit == Suit.HEARTS) {
-            totalScore += calculateIndividualHeartValue(value);
+        long baseMask = mask & CardMask.BASE_DECK_MASK;
+        hasJoker = (baseMask & CardMask.JOKER_BIT) != 0;
+        for (Suit suit : Suit.values()) {
+            int faces = (int) ((baseMask & CardMask.suitMask(suit)) >>> CardMask.ordinal(suit, Face.ACE));
+            int index = suit.ordinal();
+            suitCounts[index] = Integer.bitCount(faces);
+            faceMasks[index] = faces;
+            faceSums[index] = ScoreTable.faceSum(faces);
         }
-    }
 
-    private int calculateIndividualHeartValue(int value) {
-        if (!hasJoker)
-            return 0;
+        for (int i = 0; i < jestExtensions.size(); i++) {
+            visit(jestExtensions.get(i));
+        }
+        if (extra != null) {
+            visit(extra);
+        }
 
-        if (heartCount == 4) {
-            return value;
-        } else {
+        totalScore = ScoreTable.score(baseMask);
 
-            if (hasFlag("NO_NEGATIVE_HEARTS"))
-                return 0;
-            return -value;
+        if ((flags & NO_NEGATIVE_DIAMONDS) != 0) {
+            totalScore += suitScore(DIAMONDS);
+        }
+        if ((flags & NO_NEGATIVE_HEARTS) != 0 && hasJoker && suitCounts[HEARTS] != 4) {
+            totalScore += suitScore(HEARTS);
         }
-    }
 
-    private void applyBlackPairBonus() {
-        List<Face> spades = suitMap.get(Suit.SPADES);
-        List<Face> clubs = suitMap.get(Suit.CLUBS);
-        for (Face face : spades) {
-            if (clubs.contains(face))
-                totalScore += 2;
+        for (int i = 0; i < extensionCount; i++) {
+            totalScore += extensions[i].getFaceValue();
+            totalScore += extensions[i].getEffect().calculateBonus(this);
         }
     }
 
-    private void applyJokerBonus() {
-        if (hasJoker && heartCount == 0)
-            totalScore += 4;
+    private int suitScore(int suit) {
+        if (suitCounts[suit] == 1 && faceMasks[suit] == ACE_BIT) {
+            return SOLO_ACE_VALUE;
+        }
+        return faceSums[suit];
     }
 
     public int getTotalScore() {
         return totalScore;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package model.players;
+
+/**
+ * Fonction de score d'un Jest, spécialisée pour une configuration de partie.
+ * 
+ * <p>Obtenue auprès de {@link ScorerFactory} pour une variante et un ensemble
+ * d'extensions ; elle donne le même score que le visiteur de la variante
+ * ({@link model.game.GameVariant#createScoreVisitor()}).</p>
+ * 
+ * <p><b>Sans état :</b> un même exemplaire est partagé par toutes les parties
+ * de la configuration, y compris entre plusieurs fils.</p>
+ * 
+ * @see ScorerFactory
+ */
+@FunctionalInterface
+public interface Scorer {
+
+    /**
+     * @return score du Jest selon la variante, le Jest n'est pas modifié
+     */
+    int score(Jest jest);
+}
@@ -0,0 +1,172 @@
+package model.players;
+
+import model.cards.CardEffect;
+import model.cards.CardMask;
+import model.cards.ExtensionCard;
+import model.game.ExtensionManager;
+import model.game.GameVariant;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fabrique de fonctions de score ({@link Scorer}) spécialisées par configuration.
+ * 
+ * <p>Les règles actives sont fixées dès la configuration de la partie : le
+ * visiteur de la variante et les effets des extensions choisies. La fabrique
+ * les analyse une seule fois et construit un scorer dédié à cette combinaison.</p>
+ * 
+ * <p><b>Spécialisation :</b></p>
+ * <ul>
+ *   <li>Inversion de la variante (<code>Reverse Scoring</code>) réduite à un signe constant</li>
+ *   <li>Jest du jeu de base : lecture directe dans {@link ScoreTable}</li>
+ *   <li>Extensions sans effet ({@link CardEffect} sans flag ni bonus, comme
+ *       The Spy) : valeur ajoutée directement, sans appel à l'effet</li>
+ *   <li>Autres extensions : calcul complet par {@link ScoreVisitorImpl}
+ *       (un visiteur réutilisé par fil)</li>
+ *   <li>Variante dont le visiteur n'est pas connu : visiteur de la variante à chaque calcul</li>
+ * </ul>
+ * 
+ * <p><b>Cache :</b> un seul scorer par classe de variante et ensemble
+ * d'extensions ; un tournoi à configuration fixe utilise le même scorer pour
+ * toutes ses parties.</p>
+ * 
+ * <p><b>Utilisation :</b></p>
+ * <pre>
+ * Scorer scorer = ScorerFactory.forConfiguration(game.getVariant(), extensionMask);
+ * int score = scorer.score(player.getJest());
+ * </pre>
+ * 
+ * @see Scorer
+ * @see ScoreVisitorImpl
+ */
+public final class ScorerFactory {
+    private static final ConcurrentHashMap<Key, Scorer> CACHE = new ConcurrentHashMap<>();
+    private static final ThreadLocal<ScoreVisitorImpl> VISITORS = ThreadLocal.withInitial(ScoreVisitorImpl::new);
+
+    private ScorerFactory() {
+    }
+
+    /**
+     * @param variant variante de la partie
+     * @param cardsMask masque des cartes de la partie ; seules les extensions sont prises en compte
+     * @return scorer de la configuration
+     */
+    public static Scorer forConfiguration(GameVariant variant, long cardsMask) {
+        Key key = new Key(variant.getClass(), cardsMask & CardMask.EXTENSIONS_MASK);
+        Scorer scorer = CACHE.get(key);
+        if (scorer != null) {
+            return scorer;
+        }
+        Class<?> visitorClass = variant.createScoreVisitor().getClass();
+        if (visitorClass == ScoreVisitorImpl.class) {
+            return CACHE.computeIfAbsent(key, k -> build(1, k.extensions));
+        }
+        if (visitorClass == ReverseScoreVisitor.class) {
+            return CACHE.computeIfAbsent(key, k -> build(-1, k.extensions));
+        }
+        return new VisitorScorer(variant);
+    }
+
+    private static Scorer build(int sign, long extensions) {
+        long plain = 0L;
+        int[] faceValues = new int[CardMask.MAX_ORDINAL + 1];
+        for (long bits = extensions; bits != 0; bits &= bits - 1) {
+            int ordinal = Long.numberOfTrailingZeros(bits);
+            ExtensionCard card = ExtensionManager.getExtension(ordinal);
+            if (card != null && isPlain(card.getEffect())) {
+                plain |= 1L << ordinal;
+                faceValues[ordinal] = card.getFaceValue();
+            }
+        }
+        return new SpecializedScorer(sign, plain, faceValues);
+    }
+
+    /**
+     * @return {@code true} si l'effet ne redéfinit ni <code>applyOnVisit</code> ni <code>calculateBonus</code>
+     */
+    private static boolean isPlain(CardEffect effect) {
+        if (effect == null) {
+            return false;
+        }
+        try {
+            return effect.getClass().getMethod("applyOnVisit", ScoreVisitorImpl.class)
+                    .getDeclaringClass() == CardEffect.class
+                    && effect.getClass().getMethod("calculateBonus", ScoreVisitorImpl.class)
+                    .getDeclaringClass() == CardEffect.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static int visit(Jest jest) {
+        ScoreVisitorImpl visitor = VISITORS.get();
+        visitor.countJestScore(jest);
+        return visitor.getTotalScore();
+    }
+
+    private static final class SpecializedScorer implements Scorer {
+        private final int sign;
+        private final long plainExtensions;
+        private final int[] faceValues;
+
+        private SpecializedScorer(int sign, long plainExtensions, int[] faceValues) {
+            this.sign = sign;
+            this.plainExtensions = plainExtensions;
+            this.faceValues = faceValues;
+        }
+
+        @Override
+        public int score(Jest jest) {
+            long mask = jest.getMask();
+            long extensions = mask & CardMask.EXTENSIONS_MASK;
+            if ((extensions & ~plainExtensions) != 0
+                    || jest.getExtensionCards().size() != Long.bitCount(extensions)) {
+                return sign * visit(jest);
+            }
+            int total = ScoreTable.score(mask & CardMask.BASE_DECK_MASK);
+            for (; extensions != 0; extensions &= extensions - 1) {
+                total += faceValues[Long.numberOfTrailingZeros(extensions)];
+            }
+            return sign * total;
+        }
+    }
+
+    private static final class VisitorScorer implements Scorer {
+        private final GameVariant variant;
+
+        private VisitorScorer(GameVariant variant) {
+            this.variant = variant;
+        }
+
+        @Override
+        public int score(Jest jest) {
+            ScoreVisitor visitor = variant.createScoreVisitor();
+            jest.accept(visitor);
+            return visitor instanceof ScoreVisitorImpl ? ((ScoreVisitorImpl) visitor).getTotalScore() : 0;
+        }
+    }
+
+    private static final class Key {
+        private final Class<?> variant;
+        private final long extensions;
+
+        private Key(Class<?> variant, long extensions) {
+            this.variant = variant;
+            this.extensions = extensions;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return variant == other.variant && extensions == other.extensions;
+        }
+
+        @Override
+        public int hashCode() {
+            return variant.hashCode() * 31 + Long.hashCode(extensions);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package model.players;
 
 import model.cards.Card;
+import model.game.Game;
 import model.players.strategies.*;
 
 import java.util.ArrayList;
+import java.util.SplittableRandom;
 
 /**
  * Représente un joueur virtuel (IA).
@@ -16,12 +18,14 @@ import java.util.ArrayList;
  *   <li>{@link model.players.strategies.RandomStrategy} - Choix aléatoires</li>
  *   <li>{@link model.players.strategies.AggressiveStrategy} - Maximisation des points</li>
  *   <li>{@link model.players.strategies.CautiousStrategy} - Évitement des risques</li>
+ *   <li>{@link model.players.strategies.MonteCarloStrategy} - Simulation de parties</li>
+ *   <li>{@link model.players.strategies.MctsStrategy} - Recherche arborescente</li>
  * </ul>
  * 
  * <p><b>Fonctionnement :</b></p>
  * <ul>
  *   <li>Délégation des décisions à la stratégie</li>
- *   <li>Mise à jour de la stratégie avec le Jest actuel</li>
+ *   <li>Mise à jour de la stratégie avec le Jest actuel et la partie en cours</li>
  *   <li>Aucune interaction utilisateur requise</li>
  * </ul>
  * 
@@ -32,28 +36,82 @@ import java.util.ArrayList;
  * @see model.players.strategies.PlayStrategy
  */
 public class VirtualPlayer extends Player {
+    private static final long serialVersionUID = -5398326816044685614L;
     private PlayStrategy strategy;
     private StrategyType strategyType;
+    private SearchBudget searchBudget;
+    private Game game;
 
     public VirtualPlayer(String name, StrategyType type) {
+        this(name, type, null, SearchBudget.DEFAULT);
+    }
+
+    public VirtualPlayer(String name, StrategyType type, long seed) {
+        this(name, type, new SplittableRandom(seed));
+    }
+
+    /**
+     * @param random flux propre au joueur, utilisé par les stratégies aléatoires
+     */
+    public VirtualPlayer(String name, StrategyType type, SplittableRandom random) {
+        this(name, type, random, SearchBudget.DEFAULT);
+    }
+
+    /**
+     * @param random flux propre au joueur, {@code null} pour un flux non reproductible
+     * @param searchBudget budget des stratégies simulées, en général celui de la partie
+     */
+    public VirtualPlayer(String name, StrategyType type, SplittableRandom random, SearchBudget searchBudget) {
         super(name, true);
-        setStrategy(type);
+        this.strategyType = type;
+        this.searchBudget = searchBudget;
+        this.strategy = createStrategy(type, random, searchBudget);
     }
 
     public void setStrategy(StrategyType type) {
         this.strategyType = type;
-        switch (type) {
-            case RANDOM -> strategy = new RandomStrategy();
-            case AGGRESSIVE -> strategy = new AggressiveStrategy();
-            case CAUTIOUS -> strategy = new CautiousStrategy();
-            default -> strategy = new RandomStrategy();
-        }
+        this.strategy = createStrategy(type, null, getSearchBudget());
+    }
+
+    /**
+     * @param random flux des stratégies aléatoires, {@code null} pour un flux non reproductible
+     */
+    private static PlayStrategy createStrategy(StrategyType type, SplittableRandom random, SearchBudget budget) {
+        return switch (type) {
+            case RANDOM -> random != null ? new RandomStrategy(random) : new RandomStrategy();
+            case AGGRESSIVE -> new AggressiveStrategy();
+            case CAUTIOUS -> new CautiousStrategy();
+            case MONTE_CARLO -> new MonteCarloStrategy(random, budget.getPlayouts(), budget.getTimeBudgetMillis(),
+                    MonteCarloStrategy.defaultParallelism(), budget.getEndgameHandLimit());
+            case MCTS -> random != null
+                    ? new MctsStrategy(random, budget.getIterations(), 1, budget.getEndgameHandLimit())
+                    : new MctsStrategy(null, budget.getIterations(), Runtime.getRuntime().availableProcessors(),
+                            budget.getEndgameHandLimit());
+        };
     }
 
     public StrategyType getStrategy() {
         return strategyType;
     }
 
+    /**
+     * @return budget des stratégies simulées ({@link SearchBudget#DEFAULT} pour un joueur relu d'une ancienne sauvegarde)
+     */
+    public SearchBudget getSearchBudget() {
+        return searchBudget != null ? searchBudget : SearchBudget.DEFAULT;
+    }
+
+    public PlayStrategy getPlayStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @param game partie à laquelle participe le joueur, transmise à la stratégie avant chaque décision
+     */
+    public void setGame(Game game) {
+        this.game = game;
+    }
+
     @Override
     public Offer makeOffer(int faceUpIndex, int faceDownIndex) {
         throw new UnsupportedOperationException("Controller must call makeOffer().");
@@ -67,6 +125,7 @@ public class VirtualPlayer extends Player {
     @Override
     public Offer makeOffer() {
 
+        strategy.updateGame(game, this);
         Card[] offeredCards = strategy.setCardsToOffer(this.hand);
 
         if (offeredCards == null || offeredCards.length < 2) {
@@ -91,6 +150,7 @@ public class VirtualPlayer extends Player {
     public Offer chooseCard(ArrayList<Offer> availableOffers) {
 
         strategy.updateJest(this.jest);
+        strategy.updateGame(game, this);
 
         ArrayList<Offer> validOffers = new ArrayList<>();
         for (Offer o : availableOffers) {
@@ -11,6 +11,9 @@
  *   <li>{@link model.players.VirtualPlayer} - Joueur IA</li>
  *   <li>{@link model.players.Jest} - Collection de cartes d'un joueur</li>
  *   <li>{@link model.players.Offer} - Offre de 2 cartes</li>
+ *   <li>{@link model.players.ScoreTable} - Scores précalculés du jeu de base</li>
+ *   <li>{@link model.players.RuleModifier} - Modificateurs de règles des extensions</li>
+ *   <li>{@link model.players.ScorerFactory} - Scorers spécialisés par configuration</li>
  * </ul>
  * 
  * @see model.players.strategies
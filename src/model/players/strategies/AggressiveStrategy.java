@@ -4,6 +4,10 @@ import model.cards.*;
 import model.players.Jest;
 import model.players.Offer;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -26,7 +30,9 @@ import java.util.Set;
  * 
  * <p><b>Gestion de mémoire :</b></p>
  * <ul>
- *   <li>Mémorise les cartes vues (offres, trophées)</li>
+ *   <li>Mémorise les cartes vues (offres, trophées) dans un masque de cartes
+ *       ({@link CardMask}), relu et restauré par {@link #getSeenCards()} et
+ *       {@link #setSeenCards(long)}</li>
  *   <li>Évalue la probabilité d'obtenir certaines combinaisons</li>
  *   <li>Adapte sa stratégie selon le contexte de la partie</li>
  * </ul>
@@ -41,7 +47,17 @@ import java.util.Set;
  * @see model.players.VirtualPlayer
  */
 public class AggressiveStrategy implements PlayStrategy {
-    private Set<String> seenCards;
+    private static final long serialVersionUID = 3437396074782754465L;
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("seenCards", Set.class),
+            new ObjectStreamField("hasJoker", boolean.class),
+            new ObjectStreamField("hasHearts", boolean.class),
+            new ObjectStreamField("playerJest", Jest.class),
+            new ObjectStreamField("isFullHandVariant", boolean.class),
+            new ObjectStreamField("trophies", List.class)
+    };
+
+    private long seenCards;
     private boolean hasJoker;
     private boolean hasHearts;
     private Jest playerJest;
@@ -50,7 +66,7 @@ public class AggressiveStrategy implements PlayStrategy {
     private List<Card> trophies;
 
     public AggressiveStrategy() {
-        this.seenCards = new HashSet<>();
+        this.seenCards = 0L;
         this.hasJoker = false;
         this.hasHearts = false;
         this.trophies = new ArrayList<>();
@@ -59,9 +75,17 @@ public class AggressiveStrategy implements PlayStrategy {
     public void setTrophies(List<Card> trophies) {
         this.trophies = trophies;
 
-        for (Card c : trophies) {
-            seenCards.add(getCardId(c));
-        }
+        seenCards |= CardMask.of(trophies);
+    }
+
+    @Override
+    public long getSeenCards() {
+        return seenCards;
+    }
+
+    @Override
+    public void setSeenCards(long seenCards) {
+        this.seenCards = seenCards;
     }
 
     @Override
@@ -145,17 +169,8 @@ public class AggressiveStrategy implements PlayStrategy {
     @Override
     public void updateJest(Jest jest) {
         this.playerJest = jest;
-        this.hasJoker = false;
-        this.hasHearts = false;
-
-        for (Card card : jest.getCards()) {
-            if (card instanceof SuitCard) {
-                if (((SuitCard) card).getSuit() == Suit.HEARTS)
-                    hasHearts = true;
-            } else if (card instanceof Joker) {
-                hasJoker = true;
-            }
-        }
+        this.hasJoker = jest.containsAny(CardMask.JOKER_BIT);
+        this.hasHearts = jest.containsAny(CardMask.suitMask(Suit.HEARTS));
     }
 
     private int evaluateCardPotential(Card card) {
@@ -213,43 +228,64 @@ public class AggressiveStrategy implements PlayStrategy {
 
     private boolean isGrandSlamPossible() {
 
-        long trashCards = playerJest.getCards().stream()
-                .filter(c -> !(c instanceof Joker) && !isHeart(c))
-                .count();
-
-        if (trashCards >= 1)
+        long heartsAndJoker = playerJest.getMask() & (CardMask.suitMask(Suit.HEARTS) | CardMask.JOKER_BIT);
+        if (CardMask.count(heartsAndJoker) != playerJest.getCards().size())
             return false;
 
-        int[] heartFaces = { 1, 2, 3, 4 };
-        for (int face : heartFaces) {
-            String cardId = "HEARTS-" + face;
-
-            boolean iHaveIt = playerJest.getCards().stream().anyMatch(c -> c instanceof SuitCard
-                    && ((SuitCard) c).getSuit() == Suit.HEARTS && ((SuitCard) c).getFaceValue() == face);
-            if (iHaveIt)
-                continue;
+        long missingHearts = CardMask.suitMask(Suit.HEARTS) & ~playerJest.getMask();
+        return (seenCards & missingHearts) == 0;
+    }
 
-            if (seenCards.contains(cardId)) {
-                return false;
+    private void updateMemory(ArrayList<Offer> offers) {
+        for (Offer o : offers) {
+            if (o.getFaceUpCard() != null) {
+                seenCards |= o.getFaceUpCard().getMask();
             }
         }
-
-        return true;
     }
 
-    private boolean isHeart(Card c) {
-        return c instanceof SuitCard && ((SuitCard) c).getSuit() == Suit.HEARTS;
+    /**
+     * Forme sérialisée historique : les cartes vues sont écrites comme un ensemble d'identifiants texte.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        HashSet<String> seen = new HashSet<>();
+        for (long cards = seenCards; cards != 0; cards &= cards - 1) {
+            Card card = Card.of(Long.numberOfTrailingZeros(cards));
+            if (card != null) {
+                seen.add(getCardId(card));
+            }
+        }
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("seenCards", seen);
+        fields.put("hasJoker", hasJoker);
+        fields.put("hasHearts", hasHearts);
+        fields.put("playerJest", playerJest);
+        fields.put("isFullHandVariant", isFullHandVariant);
+        fields.put("trophies", trophies);
+        out.writeFields();
     }
 
-    private void updateMemory(ArrayList<Offer> offers) {
-        for (Offer o : offers) {
-            if (o.getFaceUpCard() != null) {
-                seenCards.add(getCardId(o.getFaceUpCard()));
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        Set<String> seen = (Set<String>) fields.get("seenCards", null);
+        seenCards = 0L;
+        if (seen != null) {
+            for (int ordinal = 0; ordinal <= CardMask.MAX_ORDINAL; ordinal++) {
+                Card card = Card.of(ordinal);
+                if (card != null && seen.contains(getCardId(card))) {
+                    seenCards |= card.getMask();
+                }
             }
         }
+        hasJoker = fields.get("hasJoker", false);
+        hasHearts = fields.get("hasHearts", false);
+        playerJest = (Jest) fields.get("playerJest", null);
+        isFullHandVariant = fields.get("isFullHandVariant", false);
+        trophies = (List<Card>) fields.get("trophies", null);
     }
 
-    private String getCardId(Card c) {
+    private static String getCardId(Card c) {
         if (c instanceof ExtensionCard)
             return ((ExtensionCard) c).getName();
         if (c instanceof Joker)
@@ -263,28 +299,14 @@ public class AggressiveStrategy implements PlayStrategy {
             return false;
 
         Suit targetSuit = (card.getSuit() == Suit.SPADES) ? Suit.CLUBS : Suit.SPADES;
-
-        for (Card c : playerJest.getCards()) {
-            if (c instanceof SuitCard) {
-                SuitCard existing = (SuitCard) c;
-                if (existing.getSuit() == targetSuit && existing.getFaceValue() == card.getFaceValue()) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return playerJest.containsAny(CardMask.bit(targetSuit, card.getFace()));
     }
 
     private boolean isOnlyOfSuitInJest(Suit suit) {
         if (playerJest == null)
             return true;
 
-        for (Card c : playerJest.getCards()) {
-            if (c instanceof SuitCard && ((SuitCard) c).getSuit() == suit) {
-                return false;
-            }
-        }
-        return true;
+        return !playerJest.containsAny(CardMask.suitMask(suit));
     }
 
     private Card selectFaceUpCardForFullHand(ArrayList<Card> hand) {
@@ -308,6 +330,9 @@ public class AggressiveStrategy implements PlayStrategy {
 
     private int evaluateCardForFaceUp(Card card) {
         if (card instanceof ExtensionCard) {
+            if (playerJest == null)
+                return 0;
+
             return ((ExtensionCard) card).getAIValue(StrategyType.AGGRESSIVE, playerJest) / 2;
         }
 
@@ -0,0 +1,283 @@
+package model.players.strategies;
+
+import model.cards.Card;
+import model.cards.CardMask;
+import model.game.Game;
+import model.game.Round;
+import model.players.Offer;
+import model.players.Player;
+import model.simulation.EndgameSolver;
+import model.simulation.Playout;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Vue de la partie du point de vue d'un joueur, au moment d'une de ses décisions.
+ *
+ * <p>Les informations connues du joueur sont placées dans un {@link Playout} ;
+ * les cartes qu'il ne voit pas forment une réserve redistribuée au hasard à
+ * chaque tirage ({@link #determinize(SplittableRandom)}).</p>
+ *
+ * <p><b>Informations :</b></p>
+ * <ul>
+ *   <li>Connues : sa main, son Jest, son offre, les cartes visibles des offres, les trophées</li>
+ *   <li>Inconnues : cartes cachées des offres adverses, mains et Jests adverses,
+ *       ordre et contenu du deck</li>
+ * </ul>
+ *
+ * <p>Chaque tirage est placé sur la décision du joueur : phase d'offres à son
+ * tour, ou phase de choix avec les joueurs ayant déjà choisi.</p>
+ *
+ * @see MonteCarloStrategy
+ * @see MctsStrategy
+ */
+final class InformationSet {
+    private final int self;
+    private final boolean offerDecision;
+    private final long alreadyPlayed;
+    private final Card[] cards;
+    private final List<Player> players;
+    private final Playout known;
+    private final int[] pool;
+    private final int[] unknownJestCards;
+    private final int[] unknownHandCards;
+    private final boolean[] unknownFaceDown;
+    private final int deckSize;
+
+    private InformationSet(int self, boolean offerDecision, long alreadyPlayed, Card[] cards, List<Player> players,
+            Playout known, int[] pool, int[] unknownJestCards, int[] unknownHandCards, boolean[] unknownFaceDown,
+            int deckSize) {
+        this.self = self;
+        this.offerDecision = offerDecision;
+        this.alreadyPlayed = alreadyPlayed;
+        this.cards = cards;
+        this.players = players;
+        this.known = known;
+        this.pool = pool;
+        this.unknownJestCards = unknownJestCards;
+        this.unknownHandCards = unknownHandCards;
+        this.unknownFaceDown = unknownFaceDown;
+        this.deckSize = deckSize;
+    }
+
+    /**
+     * @param game partie en cours
+     * @param self joueur qui décide
+     * @param offerDecision {@code true} pour une offre, {@code false} pour un choix
+     * @return la vue de la partie, ou {@code null} si elle ne peut pas être simulée
+     */
+    static InformationSet capture(Game game, Player self, boolean offerDecision) {
+        if (game == null || self == null || game.getVariant() == null) {
+            return null;
+        }
+        List<Player> players = game.getPlayers();
+        int playerCount = players.size();
+        int selfIndex = players.indexOf(self);
+        if (selfIndex < 0 || playerCount > Long.SIZE) {
+            return null;
+        }
+
+        Card[] cards = new Card[CardMask.MAX_ORDINAL + 1];
+        long seen = 0L;
+        for (Card trophy : game.getTrophies()) {
+            if (!register(cards, trophy)) {
+                return null;
+            }
+            seen |= trophy.getMask();
+        }
+
+        long[] jests = new long[playerCount];
+        long[] hands = new long[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            Player player = players.get(i);
+            for (Card card : player.getJest().getCards()) {
+                if (!register(cards, card)) {
+                    return null;
+                }
+                jests[i] |= card.getMask();
+            }
+            for (Card card : player.getHand()) {
+                if (!register(cards, card)) {
+                    return null;
+                }
+                hands[i] |= card.getMask();
+            }
+            seen |= jests[i] | hands[i];
+        }
+
+        int[] faceUps = new int[playerCount];
+        int[] faceDowns = new int[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            Offer offer = players.get(i).getOffer();
+            faceUps[i] = Playout.NO_CARD;
+            faceDowns[i] = Playout.NO_CARD;
+            if (offer == null) {
+                continue;
+            }
+            Card faceUp = offer.getFaceUpCard();
+            Card faceDown = offer.getFaceDownCard();
+            if (faceUp != null && (seen & faceUp.getMask()) == 0) {
+                if (!register(cards, faceUp)) {
+                    return null;
+                }
+                faceUps[i] = faceUp.getOrdinal();
+                seen |= faceUp.getMask();
+            }
+            if (faceDown != null && (seen & faceDown.getMask()) == 0) {
+                if (!register(cards, faceDown)) {
+                    return null;
+                }
+                faceDowns[i] = faceDown.getOrdinal();
+                seen |= faceDown.getMask();
+            }
+        }
+
+        int[] pool = new int[CardMask.MAX_ORDINAL + 1];
+        int poolSize = 0;
+        int[] unknownJestCards = new int[playerCount];
+        int[] unknownHandCards = new int[playerCount];
+        boolean[] unknownFaceDown = new boolean[playerCount];
+        Playout known = new Playout(cards, game.getTrophies(), game.getVariant(), playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            if (i == selfIndex) {
+                known.setJest(i, jests[i]);
+                known.setHand(i, hands[i]);
+                known.setOffer(i, faceUps[i], faceDowns[i]);
+                continue;
+            }
+            poolSize = addAll(pool, poolSize, jests[i]);
+            poolSize = addAll(pool, poolSize, hands[i]);
+            unknownJestCards[i] = Long.bitCount(jests[i]);
+            unknownHandCards[i] = Long.bitCount(hands[i]);
+            if (faceDowns[i] != Playout.NO_CARD) {
+                pool[poolSize++] = faceDowns[i];
+                unknownFaceDown[i] = true;
+            }
+            known.setOffer(i, faceUps[i], Playout.NO_CARD);
+        }
+        for (Card card : game.getDeck().getCards()) {
+            if (!register(cards, card)) {
+                return null;
+            }
+            pool[poolSize++] = card.getOrdinal();
+        }
+
+        long alreadyPlayed = offerDecision ? 0L : alreadyPlayed(game);
+        return new InformationSet(selfIndex, offerDecision, alreadyPlayed, cards, players, known,
+                Arrays.copyOf(pool, poolSize), unknownJestCards, unknownHandCards, unknownFaceDown,
+                game.getDeck().getRemainingCount());
+    }
+
+    private static long alreadyPlayed(Game game) {
+        Round round = game.getCurrentRound();
+        long played = 0L;
+        if (round != null && round.getAlreadyPlayed() != null) {
+            List<Player> players = game.getPlayers();
+            for (Player player : round.getAlreadyPlayed()) {
+                int index = players.indexOf(player);
+                if (index >= 0) {
+                    played |= 1L << index;
+                }
+            }
+        }
+        return played;
+    }
+
+    private static boolean register(Card[] cards, Card card) {
+        int ordinal = card.getOrdinal();
+        if (ordinal < 0 || ordinal > CardMask.MAX_ORDINAL) {
+            return false;
+        }
+        cards[ordinal] = card;
+        return true;
+    }
+
+    private static int addAll(int[] pool, int size, long mask) {
+        while (mask != 0) {
+            pool[size++] = Long.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+        }
+        return size;
+    }
+
+    int self() {
+        return self;
+    }
+
+    Card card(int ordinal) {
+        return cards[ordinal];
+    }
+
+    int indexOf(Player player) {
+        return players.indexOf(player);
+    }
+
+    /**
+     * Offre exacte de fin de partie, en moyenne sur des tirages (un seul si rien n'est caché).
+     *
+     * @return <code>{carte visible, carte cachée}</code> en ordinaux
+     */
+    int[] solveOffer(EndgameSolver solver, SplittableRandom random) {
+        return solver.bestOffer(samples(random), self);
+    }
+
+    /**
+     * Choix exact de fin de partie, en moyenne sur des tirages (un seul si rien n'est caché).
+     *
+     * @return <code>{propriétaire de l'offre, 1 pour la carte visible ou 0}</code>
+     */
+    int[] solveTake(EndgameSolver solver, SplittableRandom random) {
+        return solver.bestTake(samples(random), self);
+    }
+
+    private Playout[] samples(SplittableRandom random) {
+        Playout[] samples = new Playout[pool.length == 0 ? 1 : EndgameSolver.DEFAULT_SAMPLES];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = determinize(random);
+        }
+        return samples;
+    }
+
+    /**
+     * Redistribue au hasard les cartes inconnues dans leurs emplacements et
+     * place la simulation sur la décision du joueur.
+     */
+    Playout determinize(SplittableRandom random) {
+        int[] shuffled = pool.clone();
+        for (int i = shuffled.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = swap;
+        }
+
+        Playout playout = known.copy();
+        int next = 0;
+        for (int player = 0; player < unknownJestCards.length; player++) {
+            long jest = playout.getJest(player);
+            for (int i = 0; i < unknownJestCards[player]; i++) {
+                jest |= 1L << shuffled[next++];
+            }
+            playout.setJest(player, jest);
+
+            long hand = playout.getHand(player);
+            for (int i = 0; i < unknownHandCards[player]; i++) {
+                hand |= 1L << shuffled[next++];
+            }
+            playout.setHand(player, hand);
+
+            if (unknownFaceDown[player]) {
+                playout.setOffer(player, playout.getFaceUp(player), shuffled[next++]);
+            }
+        }
+        playout.setDeck(Arrays.copyOfRange(shuffled, next, next + deckSize), deckSize);
+        if (offerDecision) {
+            playout.beginOffers(self);
+        } else {
+            playout.beginChoice(self, alreadyPlayed);
+        }
+        return playout;
+    }
+}
@@ -0,0 +1,577 @@
+package model.players.strategies;
+
+import model.cards.Card;
+import model.game.Game;
+import model.players.Jest;
+import model.players.Offer;
+import model.players.Player;
+import model.simulation.EndgameSolver;
+import model.simulation.Moves;
+import model.simulation.Playout;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stratégie de recherche arborescente Monte Carlo sur ensembles d'information
+ * (IS-MCTS, variante « single observer »).
+ *
+ * <p>Un seul arbre couvre les décisions de tous les joueurs : construction des
+ * offres et choix d'une carte. Chaque itération tire une répartition des cartes
+ * inconnues ({@link InformationSet}), descend l'arbre en ne considérant que les
+ * coups possibles dans ce tirage, ajoute un nœud, termine la partie au hasard
+ * ({@link Playout}) puis remonte le résultat.</p>
+ *
+ * <p><b>Arbre :</b></p>
+ * <ul>
+ *   <li>Offre du joueur : couple (carte visible, carte cachée)</li>
+ *   <li>Offre adverse : carte visible seulement, la carte cachée est tirée au hasard</li>
+ *   <li>Choix : offre et face prises, pour tous les joueurs</li>
+ *   <li>Distribution d'un nouveau tour : nœud de hasard indexé par la nouvelle main du joueur</li>
+ * </ul>
+ *
+ * <p><b>Sélection :</b> UCT avec disponibilité (un coup n'est compté que dans
+ * les tirages où il est jouable) ; la récompense d'un joueur est son rang
+ * final ramené entre 0 et 1. Le coup joué est le plus visité.</p>
+ *
+ * <p><b>Réutilisation :</b> après chaque décision, le sous-arbre du coup joué
+ * est conservé. À la décision suivante, dans le même tour, au tour suivant ou
+ * au cycle suivant de la variante Full Hand, le nœud dont l'empreinte
+ * ({@link Playout#informationKey(int)}) correspond à la situation observée
+ * devient la nouvelle racine et ses statistiques sont prolongées.</p>
+ *
+ * <p><b>Parallélisme :</b> les itérations sont réparties sur le
+ * {@link ForkJoinPool#commonPool()} et partagent l'arbre ; une perte
+ * virtuelle sur les nœuds en cours d'exploration écarte les autres threads du
+ * même chemin. Avec un seul thread (stratégie créée avec une graine ou un
+ * flux de la partie), le résultat ne dépend que de la graine.</p>
+ *
+ * <p><b>Fin de partie Full Hand :</b> lorsque les mains sont assez petites
+ * ({@link EndgameSolver#applies(model.game.Round)}), la décision est prise
+ * par la résolution exacte de la fin de partie au lieu de l'arbre.</p>
+ *
+ * <p>Sans accès à la partie (voir {@link PlayStrategy#updateGame(Game, Player)}),
+ * la stratégie délègue à {@link AggressiveStrategy}.</p>
+ *
+ * @see model.simulation.Playout
+ * @see MonteCarloStrategy
+ */
+public class MctsStrategy implements PlayStrategy {
+    private static final long serialVersionUID = 1L;
+
+    public static final int DEFAULT_ITERATIONS = 1000;
+    private static final double EXPLORATION = 0.7;
+    private static final int VIRTUAL_LOSS = 1;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final int DEAL = 3 << 16;
+    private static final int HIDDEN = 0xFF;
+
+    private final int iterations;
+    private final int parallelism;
+    private final int endgameHandLimit;
+    private transient SplittableRandom random;
+    private final AggressiveStrategy fallback;
+
+    private transient Game game;
+    private transient Player self;
+    private transient Node root;
+    private transient EndgameSolver endgame;
+    private Jest playerJest;
+
+    public MctsStrategy() {
+        this(new SplittableRandom(), DEFAULT_ITERATIONS, Runtime.getRuntime().availableProcessors(),
+                EndgameSolver.DEFAULT_HAND_LIMIT);
+    }
+
+    /**
+     * Stratégie reproductible : un seul thread parcourt l'arbre.
+     *
+     * @param seed graine des tirages
+     */
+    public MctsStrategy(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Stratégie reproductible : un seul thread parcourt l'arbre.
+     *
+     * @param random flux des tirages, par exemple issu de la graine de la partie
+     */
+    public MctsStrategy(SplittableRandom random) {
+        this(random, DEFAULT_ITERATIONS, 1, EndgameSolver.DEFAULT_HAND_LIMIT);
+    }
+
+    /**
+     * @param seed graine des tirages
+     * @param iterations nombre d'itérations par décision
+     * @param parallelism nombre maximal de threads parcourant l'arbre
+     */
+    public MctsStrategy(long seed, int iterations, int parallelism) {
+        this(new SplittableRandom(seed), iterations, parallelism, EndgameSolver.DEFAULT_HAND_LIMIT);
+    }
+
+    /**
+     * @param random flux des tirages, {@code null} pour un flux non reproductible
+     * @param iterations nombre d'itérations par décision
+     * @param parallelism nombre maximal de threads parcourant l'arbre
+     * @param endgameHandLimit taille de main Full Hand de la résolution exacte (0 : jamais)
+     */
+    public MctsStrategy(SplittableRandom random, int iterations, int parallelism, int endgameHandLimit) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("iterations must be at least 1");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.random = random;
+        this.iterations = iterations;
+        this.parallelism = parallelism;
+        this.endgameHandLimit = endgameHandLimit;
+        this.fallback = new AggressiveStrategy();
+    }
+
+    private SplittableRandom random() {
+        if (random == null) {
+            random = new SplittableRandom();
+        }
+        return random;
+    }
+
+    @Override
+    public void updateJest(Jest jest) {
+        this.playerJest = jest;
+        fallback.updateJest(jest);
+    }
+
+    @Override
+    public long getSeenCards() {
+        return fallback.getSeenCards();
+    }
+
+    @Override
+    public void setSeenCards(long seenCards) {
+        fallback.setSeenCards(seenCards);
+    }
+
+    @Override
+    public void updateGame(Game game, Player self) {
+        if (game != this.game) {
+            root = null;
+        }
+        this.game = game;
+        this.self = self;
+    }
+
+    @Override
+    public Card[] setCardsToOffer(ArrayList<Card> hand) {
+        if (hand.isEmpty()) {
+            return null;
+        }
+        InformationSet snapshot = hand.size() >= 2 ? InformationSet.capture(game, self, true) : null;
+        if (snapshot == null) {
+            root = null;
+            return fallback.setCardsToOffer(hand);
+        }
+
+        int move;
+        if (endgame().applies(game.getCurrentRound())) {
+            int[] offer = snapshot.solveOffer(endgame, random().split());
+            root = null;
+            move = Moves.offer(offer[0], offer[1]);
+        } else {
+            move = decide(snapshot);
+        }
+        if (move < 0) {
+            return fallback.setCardsToOffer(hand);
+        }
+        Card faceUpCard = snapshot.card(Moves.faceUpOrdinal(move));
+        Card faceDownCard = snapshot.card(Moves.faceDownOrdinal(move));
+        hand.remove(faceUpCard);
+        hand.remove(faceDownCard);
+        return new Card[] { faceUpCard, faceDownCard };
+    }
+
+    @Override
+    public Offer chooseCard(ArrayList<Offer> availableOffers) {
+        if (availableOffers.isEmpty()) {
+            return null;
+        }
+        InformationSet snapshot = InformationSet.capture(game, self, false);
+        if (snapshot == null || playerJest == null) {
+            root = null;
+            return fallback.chooseCard(availableOffers);
+        }
+
+        int move;
+        if (endgame().applies(game.getCurrentRound())) {
+            int[] take = snapshot.solveTake(endgame, random().split());
+            root = null;
+            move = take == null ? -1 : Moves.take(take[0], take[1] == 1);
+        } else {
+            move = decide(snapshot);
+        }
+        if (move < 0) {
+            return fallback.chooseCard(availableOffers);
+        }
+        int owner = Moves.offerOwner(move);
+        boolean faceUp = Moves.takesFaceUp(move);
+        for (Offer offer : availableOffers) {
+            if (snapshot.indexOf(offer.getOwner()) != owner) {
+                continue;
+            }
+            Card card = faceUp ? offer.getFaceUpCard() : offer.getFaceDownCard();
+            if (card == null) {
+                break;
+            }
+            playerJest.addCard(card);
+            if (faceUp) {
+                offer.setFaceUpCard(null);
+            } else {
+                offer.setFaceDownCard(null);
+            }
+            return offer;
+        }
+        root = null;
+        return fallback.chooseCard(availableOffers);
+    }
+
+    private EndgameSolver endgame() {
+        if (endgame == null) {
+            endgame = new EndgameSolver(endgameHandLimit);
+        }
+        return endgame;
+    }
+
+    /**
+     * Reprend ou crée l'arbre pour la situation courante, le développe puis
+     * retient le coup le plus visité. Le sous-arbre de ce coup est conservé
+     * pour la décision suivante.
+     *
+     * @return coup choisi (codage {@link Moves})
+     */
+    private int decide(InformationSet snapshot) {
+        long decisionSeed = random().nextLong();
+        Playout situation = snapshot.determinize(new SplittableRandom(decisionSeed));
+        int selfIndex = snapshot.self();
+        long key = situation.informationKey(selfIndex);
+
+        Node start = reuse(key);
+        if (start == null) {
+            start = new Node(0, -1, 0L);
+            start.markDecision(key);
+        }
+
+        int[] legal = new int[Moves.MAX_MOVES];
+        int count = legalMoves(situation, selfIndex, legal);
+        if (count == 0) {
+            root = null;
+            return -1;
+        }
+        if (count > 1) {
+            search(start, snapshot, decisionSeed);
+        }
+
+        Node best = null;
+        for (int i = 0; i < count; i++) {
+            Node child = start.child(legal[i]);
+            if (child != null && (best == null || child.visits > best.visits)) {
+                best = child;
+            }
+        }
+        if (best == null) {
+            best = new Node(legal[0], selfIndex, 0L);
+        }
+        root = best;
+        return best.move;
+    }
+
+    /**
+     * Cherche, sous le coup joué à la décision précédente, le nœud de décision
+     * du joueur correspondant à la situation observée. La recherche ne dépasse
+     * pas les nœuds de décision du joueur : la décision courante est la
+     * première rencontrée sur chaque chemin.
+     */
+    private Node reuse(long key) {
+        if (root == null) {
+            return null;
+        }
+        ArrayDeque<Node> pending = new ArrayDeque<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.poll();
+            if (node.decision) {
+                if (node.key == key) {
+                    return node;
+                }
+                continue;
+            }
+            if (node.children != null) {
+                pending.addAll(node.children);
+            }
+        }
+        return null;
+    }
+
+    private void search(Node start, InformationSet snapshot, long decisionSeed) {
+        AtomicInteger counter = new AtomicInteger();
+        int tasks = Math.min(parallelism, iterations);
+        if (tasks == 1) {
+            runIterations(start, snapshot, decisionSeed, counter);
+            return;
+        }
+        ArrayList<Callable<Void>> jobs = new ArrayList<>();
+        for (int task = 0; task < tasks; task++) {
+            jobs.add(() -> {
+                runIterations(start, snapshot, decisionSeed, counter);
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> result : ForkJoinPool.commonPool().invokeAll(jobs)) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("MCTS search interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("MCTS iteration failed", e.getCause());
+        }
+    }
+
+    private void runIterations(Node start, InformationSet snapshot, long decisionSeed, AtomicInteger counter) {
+        int[] legal = new int[Moves.MAX_MOVES];
+        ArrayList<Node> path = new ArrayList<>();
+        for (int iteration = counter.getAndIncrement(); iteration < iterations;
+                iteration = counter.getAndIncrement()) {
+            iterate(start, snapshot, new SplittableRandom(decisionSeed + (iteration + 1) * GOLDEN_GAMMA), legal, path);
+        }
+    }
+
+    /**
+     * Une itération : tirage, sélection et expansion, playout aléatoire, rétropropagation.
+     */
+    private static void iterate(Node start, InformationSet snapshot, SplittableRandom random, int[] legal,
+            ArrayList<Node> path) {
+        int selfIndex = snapshot.self();
+        Playout state = snapshot.determinize(random);
+        Node node = start;
+        path.clear();
+        path.add(start);
+
+        boolean expanded = false;
+        while (!expanded && !state.isOver()) {
+            int actor = state.getActor();
+            int count = legalMoves(state, selfIndex, legal);
+            Node child;
+            synchronized (node) {
+                int known = node.children == null ? 0 : node.children.size();
+                child = node.child(legal, count, actor, random);
+                expanded = node.children.size() > known;
+            }
+
+            int round = state.getRoundNumber();
+            apply(state, child.move, random);
+            path.add(child);
+            node = child;
+
+            if (!state.isOver() && !state.isFullHand() && state.getRoundNumber() != round) {
+                synchronized (node) {
+                    node = node.chanceChild(state.getHand(selfIndex));
+                }
+                path.add(node);
+            }
+            if (!state.isOver() && state.getActor() == selfIndex) {
+                synchronized (node) {
+                    if (!node.decision) {
+                        node.markDecision(state.informationKey(selfIndex));
+                    }
+                }
+            }
+        }
+
+        state.playRandomly(random);
+        double[] rewards = rewards(state.finalScores());
+        for (int i = 1; i < path.size(); i++) {
+            Node parent = path.get(i - 1);
+            Node child = path.get(i);
+            if (child.mover < 0) {
+                continue;
+            }
+            synchronized (parent) {
+                child.visits++;
+                child.reward += rewards[child.mover];
+                child.virtualLoss -= VIRTUAL_LOSS;
+            }
+        }
+    }
+
+    /**
+     * Rang final de chaque joueur ramené entre 0 (dernier) et 1 (premier seul),
+     * les égalités comptant pour moitié.
+     */
+    private static double[] rewards(int[] scores) {
+        double[] rewards = new double[scores.length];
+        if (scores.length < 2) {
+            return rewards;
+        }
+        for (int player = 0; player < scores.length; player++) {
+            double beaten = 0;
+            for (int other = 0; other < scores.length; other++) {
+                if (other == player) {
+                    continue;
+                }
+                if (scores[player] > scores[other]) {
+                    beaten += 1;
+                } else if (scores[player] == scores[other]) {
+                    beaten += 0.5;
+                }
+            }
+            rewards[player] = beaten / (scores.length - 1);
+        }
+        return rewards;
+    }
+
+    /**
+     * Coups du joueur courant dans ce tirage ({@link Moves}). Les offres adverses
+     * ne sont distinguées que par leur carte visible : la carte cachée est notée
+     * <code>HIDDEN</code> et tirée au hasard au moment de jouer.
+     *
+     * @return nombre de coups écrits dans <code>moves</code>
+     */
+    private static int legalMoves(Playout state, int selfIndex, int[] moves) {
+        int actor = state.getActor();
+        if (!state.isOfferPhase() || actor == selfIndex) {
+            return Moves.generate(state, moves, 0);
+        }
+        int count = 0;
+        for (long ups = state.getHand(actor); ups != 0; ups &= ups - 1) {
+            moves[count++] = Moves.offer(Long.numberOfTrailingZeros(ups), HIDDEN);
+        }
+        return count;
+    }
+
+    private static void apply(Playout state, int move, SplittableRandom random) {
+        if (!Moves.isOffer(move) || Moves.faceDownOrdinal(move) != HIDDEN) {
+            Moves.play(state, move);
+            return;
+        }
+        int up = Moves.faceUpOrdinal(move);
+        long rest = state.getHand(state.getActor()) & ~(1L << up);
+        int index = random.nextInt(Long.bitCount(rest));
+        for (int i = 0; i < index; i++) {
+            rest &= rest - 1;
+        }
+        state.offer(up, Long.numberOfTrailingZeros(rest));
+    }
+
+    /**
+     * Nœud de l'arbre : coup qui y mène, joueur qui l'a joué, statistiques
+     * (récompense cumulée du joueur, visites, disponibilité, perte virtuelle).
+     * Les statistiques d'un nœud sont protégées par le verrou de son parent.
+     */
+    private static final class Node {
+        private final int move;
+        private final int mover;
+        private final long observation;
+        private ArrayList<Node> children;
+        private double reward;
+        private int visits;
+        private int availability;
+        private int virtualLoss;
+        private boolean decision;
+        private long key;
+
+        private Node(int move, int mover, long observation) {
+            this.move = move;
+            this.mover = mover;
+            this.observation = observation;
+        }
+
+        void markDecision(long informationKey) {
+            this.decision = true;
+            this.key = informationKey;
+        }
+
+        Node child(int move) {
+            if (children != null) {
+                for (Node child : children) {
+                    if (child.move == move && child.mover >= 0) {
+                        return child;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Ajoute un coup encore jamais essayé parmi les coups possibles, sinon
+         * sélectionne par UCT le meilleur enfant disponible. Le nœud retourné
+         * reçoit une perte virtuelle.
+         */
+        Node child(int[] moves, int count, int actor, SplittableRandom random) {
+            int untried = 0;
+            for (int i = 0; i < count; i++) {
+                if (child(moves[i]) == null) {
+                    untried++;
+                }
+            }
+            Node selected;
+            if (untried > 0) {
+                int index = random.nextInt(untried);
+                int move = 0;
+                for (int i = 0; i < count; i++) {
+                    if (child(moves[i]) == null && index-- == 0) {
+                        move = moves[i];
+                        break;
+                    }
+                }
+                selected = new Node(move, actor, 0L);
+                if (children == null) {
+                    children = new ArrayList<>();
+                }
+                children.add(selected);
+            } else {
+                selected = null;
+                double bestValue = Double.NEGATIVE_INFINITY;
+                for (int i = 0; i < count; i++) {
+                    Node child = child(moves[i]);
+                    child.availability++;
+                    int trials = child.visits + child.virtualLoss;
+                    double value = child.reward / trials
+                            + EXPLORATION * Math.sqrt(Math.log(child.availability) / trials);
+                    if (value > bestValue) {
+                        bestValue = value;
+                        selected = child;
+                    }
+                }
+            }
+            selected.virtualLoss += VIRTUAL_LOSS;
+            return selected;
+        }
+
+        /**
+         * @param hand main du joueur après la distribution
+         * @return nœud de hasard correspondant à cette main
+         */
+        Node chanceChild(long hand) {
+            if (children == null) {
+                children = new ArrayList<>();
+            }
+            for (Node child : children) {
+                if (child.mover < 0 && child.observation == hand) {
+                    return child;
+                }
+            }
+            Node child = new Node(DEAL, -1, hand);
+            children.add(child);
+            return child;
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package model.players.strategies;
+
+import model.cards.Card;
+import model.game.Game;
+import model.players.Jest;
+import model.players.Offer;
+import model.players.Player;
+import model.simulation.EndgameSolver;
+import model.simulation.Moves;
+import model.simulation.Playout;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Stratégie Monte Carlo par déterminisation.
+ *
+ * <p>À chaque décision, la stratégie tire des répartitions possibles des
+ * cartes qu'elle ne connaît pas, joue pour chaque coup candidat de
+ * nombreuses fins de partie aléatoires ({@link Playout}) et retient le coup
+ * dont le score final moyen est le meilleur.</p>
+ *
+ * <p><b>Informations utilisées ({@link InformationSet}) :</b></p>
+ * <ul>
+ *   <li>Connues : sa main, son Jest, son offre, les cartes visibles des offres, les trophées</li>
+ *   <li>Inconnues (redistribuées à chaque tirage) : cartes cachées des offres adverses,
+ *       mains et Jests adverses, ordre et contenu du deck</li>
+ * </ul>
+ *
+ * <p><b>Coups évalués</b> (codés par {@link Moves}) :</p>
+ * <ul>
+ *   <li>Offre : chaque couple (carte visible, carte cachée) de la main</li>
+ *   <li>Choix : carte visible ou cachée de chaque offre disponible</li>
+ * </ul>
+ *
+ * <p><b>Budget :</b> un nombre de playouts par décision (répartis entre les
+ * coups candidats) et, optionnellement, une limite de temps ; les joueurs
+ * virtuels reçoivent ceux du {@link SearchBudget} de leur partie. Les tirages sont
+ * répartis sur le {@link ForkJoinPool} du thread appelant (celui d'un tournoi,
+ * dont il respecte le nombre de threads) ou, à défaut, sur le
+ * {@link ForkJoinPool#commonPool()}. Une stratégie créée dans un
+ * {@link ForkJoinPool} (partie d'un tournoi) ne répartit pas ses tirages :
+ * les parties occupent déjà les threads. Chaque tirage a sa propre
+ * graine, donc sans limite de temps le résultat ne dépend pas du nombre de
+ * threads. Tous les coups d'un même tirage sont évalués sur la même
+ * déterminisation et la même graine de playout. Les graines de chaque
+ * décision sont tirées du {@link SplittableRandom} de la stratégie, que
+ * {@link model.game.Game#Game(long)} dérive de la graine de la partie.</p>
+ *
+ * <p><b>Fin de partie Full Hand :</b> lorsque les mains sont assez petites
+ * ({@link EndgameSolver#applies(model.game.Round)}), les playouts aléatoires
+ * sont remplacés par la résolution exacte de la fin de partie.</p>
+ *
+ * <p>Sans accès à la partie (voir {@link PlayStrategy#updateGame(Game, Player)}),
+ * la stratégie délègue à {@link AggressiveStrategy}.</p>
+ *
+ * @see model.simulation.Playout
+ * @see model.players.strategies.PlayStrategy
+ */
+public class MonteCarloStrategy implements PlayStrategy {
+    private static final long serialVersionUID = 1L;
+
+    public static final int DEFAULT_PLAYOUTS = 1000;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final int playouts;
+    private final long timeBudgetMillis;
+    private final int parallelism;
+    private final int endgameHandLimit;
+    private transient SplittableRandom random;
+    private final AggressiveStrategy fallback;
+
+    private transient Game game;
+    private transient Player self;
+    private transient EndgameSolver endgame;
+    private Jest playerJest;
+
+    public MonteCarloStrategy() {
+        this(new SplittableRandom(), DEFAULT_PLAYOUTS, 0L, defaultParallelism(), EndgameSolver.DEFAULT_HAND_LIMIT);
+    }
+
+    public MonteCarloStrategy(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * @param random flux des tirages, par exemple issu de la graine de la partie
+     */
+    public MonteCarloStrategy(SplittableRandom random) {
+        this(random, DEFAULT_PLAYOUTS, 0L, defaultParallelism(), EndgameSolver.DEFAULT_HAND_LIMIT);
+    }
+
+    /**
+     * @param seed graine des tirages
+     * @param playouts nombre de playouts par décision
+     * @param timeBudgetMillis limite de temps par décision en millisecondes (0 : aucune)
+     * @param parallelism nombre maximal de tâches parallèles par décision
+     */
+    public MonteCarloStrategy(long seed, int playouts, long timeBudgetMillis, int parallelism) {
+        this(new SplittableRandom(seed), playouts, timeBudgetMillis, parallelism, EndgameSolver.DEFAULT_HAND_LIMIT);
+    }
+
+    /**
+     * @param random flux des tirages, {@code null} pour un flux non reproductible
+     * @param playouts nombre de playouts par décision
+     * @param timeBudgetMillis limite de temps par décision en millisecondes (0 : aucune)
+     * @param parallelism nombre maximal de tâches parallèles par décision
+     * @param endgameHandLimit taille de main Full Hand de la résolution exacte (0 : jamais)
+     */
+    public MonteCarloStrategy(SplittableRandom random, int playouts, long timeBudgetMillis, int parallelism,
+            int endgameHandLimit) {
+        if (playouts < 1) {
+            throw new IllegalArgumentException("playouts must be at least 1");
+        }
+        if (timeBudgetMillis < 0) {
+            throw new IllegalArgumentException("timeBudgetMillis must not be negative");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.random = random;
+        this.playouts = playouts;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.parallelism = parallelism;
+        this.endgameHandLimit = endgameHandLimit;
+        this.fallback = new AggressiveStrategy();
+    }
+
+    /**
+     * @return 1 dans un {@link ForkJoinPool} (les parties parallèles occupent déjà les threads), sinon le nombre de cœurs
+     */
+    public static int defaultParallelism() {
+        return ForkJoinTask.inForkJoinPool() ? 1 : Runtime.getRuntime().availableProcessors();
+    }
+
+    private SplittableRandom random() {
+        if (random == null) {
+            random = new SplittableRandom();
+        }
+        return random;
+    }
+
+    @Override
+    public void updateJest(Jest jest) {
+        this.playerJest = jest;
+        fallback.updateJest(jest);
+    }
+
+    @Override
+    public long getSeenCards() {
+        return fallback.getSeenCards();
+    }
+
+    @Override
+    public void setSeenCards(long seenCards) {
+        fallback.setSeenCards(seenCards);
+    }
+
+    @Override
+    public void updateGame(Game game, Player self) {
+        this.game = game;
+        this.self = self;
+    }
+
+    @Override
+    public Card[] setCardsToOffer(ArrayList<Card> hand) {
+        if (hand.isEmpty()) {
+            return null;
+        }
+        InformationSet snapshot = hand.size() >= 2 ? InformationSet.capture(game, self, true) : null;
+        if (snapshot == null) {
+            return fallback.setCardsToOffer(hand);
+        }
+        if (endgame().applies(game.getCurrentRound())) {
+            int[] offer = snapshot.solveOffer(endgame, random().split());
+            Card faceUpCard = snapshot.card(offer[0]);
+            Card faceDownCard = snapshot.card(offer[1]);
+            hand.remove(faceUpCard);
+            hand.remove(faceDownCard);
+            return new Card[] { faceUpCard, faceDownCard };
+        }
+
+        int[] moves = new int[hand.size() * (hand.size() - 1)];
+        int count = 0;
+        for (Card up : hand) {
+            for (Card down : hand) {
+                if (up != down) {
+                    moves[count++] = Moves.offer(up.getOrdinal(), down.getOrdinal());
+                }
+            }
+        }
+
+        int best = moves[search(snapshot, moves, count)];
+        Card faceUpCard = snapshot.card(Moves.faceUpOrdinal(best));
+        Card faceDownCard = snapshot.card(Moves.faceDownOrdinal(best));
+        hand.remove(faceUpCard);
+        hand.remove(faceDownCard);
+        return new Card[] { faceUpCard, faceDownCard };
+    }
+
+    @Override
+    public Offer chooseCard(ArrayList<Offer> availableOffers) {
+        if (availableOffers.isEmpty()) {
+            return null;
+        }
+        InformationSet snapshot = InformationSet.capture(game, self, false);
+        if (snapshot == null || playerJest == null) {
+            return fallback.chooseCard(availableOffers);
+        }
+
+        int[] moves = new int[2 * availableOffers.size()];
+        Offer[] moveOffers = new Offer[moves.length];
+        int count = 0;
+        for (Offer offer : availableOffers) {
+            int owner = snapshot.indexOf(offer.getOwner());
+            if (owner < 0) {
+                continue;
+            }
+            if (offer.getFaceUpCard() != null) {
+                moveOffers[count] = offer;
+                moves[count++] = Moves.take(owner, true);
+            }
+            if (offer.getFaceDownCard() != null) {
+                moveOffers[count] = offer;
+                moves[count++] = Moves.take(owner, false);
+            }
+        }
+        if (count == 0) {
+            return fallback.chooseCard(availableOffers);
+        }
+
+        int best = endgame().applies(game.getCurrentRound())
+                ? indexOf(moves, count, snapshot.solveTake(endgame, random().split()))
+                : search(snapshot, moves, count);
+        Offer chosen = moveOffers[best];
+        if (Moves.takesFaceUp(moves[best])) {
+            playerJest.addCard(chosen.getFaceUpCard());
+            chosen.setFaceUpCard(null);
+        } else {
+            playerJest.addCard(chosen.getFaceDownCard());
+            chosen.setFaceDownCard(null);
+        }
+        return chosen;
+    }
+
+    private EndgameSolver endgame() {
+        if (endgame == null) {
+            endgame = new EndgameSolver(endgameHandLimit);
+        }
+        return endgame;
+    }
+
+    private static int indexOf(int[] moves, int count, int[] take) {
+        for (int i = 0; i < count; i++) {
+            if (take != null && moves[i] == Moves.take(take[0], take[1] == 1)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return index du coup ayant le meilleur score final moyen (le premier en cas d'égalité)
+     */
+    private int search(InformationSet snapshot, int[] moves, int count) {
+        if (count == 1) {
+            return 0;
+        }
+        int samples = Math.max(1, playouts / count);
+        long decisionSeed = random().nextLong();
+        long deadline = timeBudgetMillis > 0 ? System.nanoTime() + timeBudgetMillis * 1_000_000L : Long.MAX_VALUE;
+        int tasks = Math.min(parallelism, samples);
+
+        long[] totals = new long[count];
+        if (tasks == 1) {
+            accumulate(totals, runSamples(snapshot, moves, count, decisionSeed, 0, 1, samples, deadline));
+        } else {
+            // Dans le pool du thread appelant s'il en a un, sinon dans le pool commun.
+            ArrayList<ForkJoinTask<long[]>> jobs = new ArrayList<>();
+            for (int task = 0; task < tasks; task++) {
+                int first = task;
+                Callable<long[]> job = () -> runSamples(snapshot, moves, count, decisionSeed, first, tasks, samples, deadline);
+                jobs.add(ForkJoinTask.adapt(job));
+            }
+            try {
+                for (ForkJoinTask<long[]> job : ForkJoinTask.invokeAll(jobs)) {
+                    accumulate(totals, job.join());
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("Monte Carlo playout failed", e);
+            }
+        }
+
+        int best = 0;
+        for (int move = 1; move < totals.length; move++) {
+            if (totals[move] > totals[best]) {
+                best = move;
+            }
+        }
+        return best;
+    }
+
+    private static void accumulate(long[] totals, long[] partial) {
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] += partial[i];
+        }
+    }
+
+    /**
+     * Joue les tirages <code>first, first + step, ...</code> : pour chacun, une
+     * déterminisation puis un playout par coup avec la même graine.
+     */
+    private static long[] runSamples(InformationSet snapshot, int[] moves, int count, long decisionSeed,
+            int first, int step, int samples, long deadline) {
+        long[] totals = new long[count];
+        for (int sample = first; sample < samples; sample += step) {
+            if (sample > first && System.nanoTime() > deadline) {
+                break;
+            }
+            SplittableRandom sampleRandom = new SplittableRandom(decisionSeed + sample * GOLDEN_GAMMA);
+            Playout determinized = snapshot.determinize(sampleRandom);
+            long playoutSeed = sampleRandom.nextLong();
+            Playout playout = determinized.copy();
+            for (int move = 0; move < count; move++) {
+                playout.copyFrom(determinized);
+                Moves.play(playout, moves[move]);
+                playout.playRandomly(new SplittableRandom(playoutSeed));
+                totals[move] += playout.finalScores()[snapshot.self()];
+            }
+        }
+        return totals;
+    }
+}
@@ -1,8 +1,10 @@
 package model.players.strategies;
 
 import model.cards.Card;
+import model.game.Game;
 import model.players.Jest;
 import model.players.Offer;
+import model.players.Player;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -18,14 +20,41 @@ import java.util.ArrayList;
  *   <li>Sélection de 2 cartes pour former une offre</li>
  *   <li>Choix de l'offre adverse à accepter</li>
  *   <li>Mise à jour de la connaissance du Jest du joueur</li>
+ *   <li>Accès optionnel à la partie en cours (stratégies de simulation)</li>
+ *   <li>Mémoire éventuelle des cartes vues, sauvegardée avec la partie</li>
  * </ul>
  * 
  * @see AggressiveStrategy
  * @see CautiousStrategy
  * @see RandomStrategy
+ * @see MonteCarloStrategy
+ * @see MctsStrategy
  */
 public interface PlayStrategy extends Serializable {
     Card[] setCardsToOffer(ArrayList<Card> hand);
     Offer chooseCard(ArrayList<Offer> availableOffers);
     void updateJest(Jest jest);
+
+    /**
+     * Transmet la partie en cours avant chaque décision. Les stratégies
+     * heuristiques l'ignorent.
+     *
+     * @param game partie en cours (peut être {@code null})
+     * @param self joueur utilisant la stratégie
+     */
+    default void updateGame(Game game, Player self) {
+    }
+
+    /**
+     * @return masque ({@link model.cards.CardMask}) des cartes mémorisées comme vues, 0 sans mémoire
+     */
+    default long getSeenCards() {
+        return 0L;
+    }
+
+    /**
+     * Restaure la mémoire des cartes vues, au chargement d'une partie.
+     */
+    default void setSeenCards(long seenCards) {
+    }
 }
@@ -5,7 +5,7 @@ import model.players.Jest;
 import model.players.Offer;
 
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Stratégie aléatoire pour les joueurs virtuels.
@@ -19,12 +19,36 @@ import java.util.Random;
  *   <li>Choix aléatoire de l'offre adverse</li>
  *   <li>Aucune analyse tactique</li>
  * </ul>
+ * 
+ * <p>Les tirages viennent d'un {@link SplittableRandom} fourni à la création
+ * (en général un flux de la partie) ; il n'est pas sauvegardé, une stratégie
+ * rechargée repart d'un générateur non initialisé.</p>
  */
 public class RandomStrategy implements PlayStrategy {
-    private Random random = new Random();
+    private static final long serialVersionUID = -487820687017092854L;
+    private transient SplittableRandom random;
     private Jest playerJest;
     private boolean isFullHandVariant = false;
 
+    public RandomStrategy() {
+        this(new SplittableRandom());
+    }
+
+    public RandomStrategy(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    public RandomStrategy(SplittableRandom random) {
+        this.random = random;
+    }
+
+    private SplittableRandom random() {
+        if (random == null) {
+            random = new SplittableRandom();
+        }
+        return random;
+    }
+
     @Override
     public Card[] setCardsToOffer(ArrayList<Card> hand) {
         if (hand.isEmpty()) {
@@ -34,9 +58,9 @@ public class RandomStrategy implements PlayStrategy {
         
         isFullHandVariant = hand.size() > 4;
         
-        int index = random.nextInt(hand.size());
+        int index = random().nextInt(hand.size());
         Card faceUpCard = hand.remove(index);
-        index = random.nextInt(hand.size());
+        index = random().nextInt(hand.size());
         Card faceDownCard = hand.remove(index);
         return new Card[]{faceUpCard, faceDownCard};
     }
@@ -50,17 +74,17 @@ public class RandomStrategy implements PlayStrategy {
         if (availableOffers.isEmpty()) {
             return null;
         }
-        int index = random.nextInt(availableOffers.size());
+        int index = random().nextInt(availableOffers.size());
         Offer selectedOffer = availableOffers.get(index);
         
         
         boolean chooseFaceUp;
         if (isFullHandVariant) {
             
-            chooseFaceUp = random.nextDouble() < 0.6;
+            chooseFaceUp = random().nextDouble() < 0.6;
         } else {
             
-            chooseFaceUp = random.nextInt(2) == 0;
+            chooseFaceUp = random().nextInt(2) == 0;
         }
 
         if (chooseFaceUp) {
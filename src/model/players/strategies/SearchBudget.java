@@ -0,0 +1,82 @@
+package model.players.strategies;
+
+import model.simulation.EndgameSolver;
+
+import java.io.Serializable;
+
+/**
+ * Budget de recherche des stratégies simulées d'une partie.
+ *
+ * <p>Le budget appartient à la partie ({@link model.game.Game#setSearchBudget(SearchBudget)},
+ * renseigné depuis {@link model.game.GameConfiguration}) et est transmis à
+ * chaque {@link model.players.VirtualPlayer} lors de la création de sa
+ * stratégie : plusieurs parties ou tournois d'une même JVM peuvent ainsi
+ * utiliser des budgets différents.</p>
+ *
+ * <p><b>Paramètres :</b></p>
+ * <ul>
+ *   <li>Playouts par décision de {@link MonteCarloStrategy}</li>
+ *   <li>Limite de temps par décision de {@link MonteCarloStrategy} (0 : aucune)</li>
+ *   <li>Itérations par décision de {@link MctsStrategy}</li>
+ *   <li>Taille de main Full Hand à partir de laquelle ces deux stratégies
+ *       résolvent la fin de partie ({@link EndgameSolver}, 0 : jamais)</li>
+ * </ul>
+ *
+ * <p>Immuable.</p>
+ */
+public final class SearchBudget implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final SearchBudget DEFAULT = new SearchBudget(MonteCarloStrategy.DEFAULT_PLAYOUTS, 0L,
+            MctsStrategy.DEFAULT_ITERATIONS, EndgameSolver.DEFAULT_HAND_LIMIT);
+
+    private final int playouts;
+    private final long timeBudgetMillis;
+    private final int iterations;
+    private final int endgameHandLimit;
+
+    /**
+     * @param playouts nombre de playouts par décision
+     * @param timeBudgetMillis limite de temps par décision en millisecondes (0 : aucune)
+     * @param iterations nombre d'itérations MCTS par décision
+     * @param endgameHandLimit taille de main de la résolution exacte (0 : jamais)
+     */
+    public SearchBudget(int playouts, long timeBudgetMillis, int iterations, int endgameHandLimit) {
+        if (playouts < 1 || timeBudgetMillis < 0) {
+            throw new IllegalArgumentException("Invalid Monte Carlo budget: " + playouts + " playouts, "
+                    + timeBudgetMillis + " ms");
+        }
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Invalid MCTS budget: " + iterations + " iterations");
+        }
+        if (endgameHandLimit < 0) {
+            throw new IllegalArgumentException("Invalid endgame hand limit: " + endgameHandLimit);
+        }
+        this.playouts = playouts;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.iterations = iterations;
+        this.endgameHandLimit = endgameHandLimit;
+    }
+
+    public int getPlayouts() {
+        return playouts;
+    }
+
+    public long getTimeBudgetMillis() {
+        return timeBudgetMillis;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public int getEndgameHandLimit() {
+        return endgameHandLimit;
+    }
+
+    @Override
+    public String toString() {
+        return playouts + " playouts" + (timeBudgetMillis > 0 ? ", " + timeBudgetMillis + " ms" : "")
+                + ", " + iterations + " MCTS iterations, endgame at " + endgameHandLimit + " cards";
+    }
+}
@@ -11,10 +11,14 @@ package model.players.strategies;
  *   <li><b>RANDOM</b> - Choix aléatoires</li>
  *   <li><b>AGGRESSIVE</b> - Maximisation du score</li>
  *   <li><b>CAUTIOUS</b> - Minimisation des risques</li>
+ *   <li><b>MONTE_CARLO</b> - Simulation de parties (déterminisation)</li>
+ *   <li><b>MCTS</b> - Recherche arborescente sur ensembles d'information</li>
  * </ul>
  */
 public enum StrategyType {
     RANDOM,
     AGGRESSIVE,
-    CAUTIOUS
+    CAUTIOUS,
+    MONTE_CARLO,
+    MCTS
 }
@@ -9,6 +9,8 @@
  *   <li>{@link RandomStrategy} - Choix complètement aléatoires</li>
  *   <li>{@link AggressiveStrategy} - Maximisation agressive du score</li>
  *   <li>{@link CautiousStrategy} - Minimisation des risques et pénalités</li>
+ *   <li>{@link MonteCarloStrategy} - Simulation Monte Carlo par déterminisation</li>
+ *   <li>{@link MctsStrategy} - Recherche arborescente Monte Carlo (IS-MCTS) avec réutilisation de l'arbre</li>
  * </ul>
  * 
  * @see model.players.strategies.PlayStrategy
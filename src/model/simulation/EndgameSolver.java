@@ -0,0 +1,245 @@
+package model.simulation;
+
+import model.game.FullHandRound;
+import model.game.Round;
+
+import java.util.Arrays;
+
+/**
+ * Résolution exacte des fins de partie de la variante Full Hand.
+ *
+ * <p>Lorsque chaque joueur n'a plus que quelques cartes, l'arbre de jeu
+ * restant est assez petit pour être parcouru entièrement. Le solveur explore
+ * toutes les offres (carte visible, carte cachée) et tous les choix jusqu'à la
+ * fin de la partie, en supposant que chaque joueur maximise son propre score
+ * final (max<sup>n</sup>). Les scores terminaux incluent les trophées
+ * ({@link Playout#finalScores()}). Les coups viennent de {@link Moves} et sont
+ * joués puis annulés sur la position elle-même, sans copie.</p>
+ *
+ * <p><b>Information cachée :</b> la recherche se fait à information parfaite
+ * sur des tirages des cartes inconnues ; {@link #bestOffer(Playout[], int)} et
+ * {@link #bestTake(Playout[], int)} retiennent le coup dont le score final
+ * moyen sur ces tirages est le meilleur.</p>
+ *
+ * <p><b>Table de transpositions :</b> la valeur de chaque position résolue
+ * est rangée dans une {@link TranspositionTable} commune à tous les solveurs,
+ * sous l'empreinte de Zobrist de la position ({@link Playout#getZobristHash()})
+ * complétée par la variante et le nombre de joueurs. Les scores y sont tassés
+ * sur {@link TranspositionTable#PAYLOAD_BITS} bits ; une position dont un score
+ * ne tient pas dans sa part n'est simplement pas conservée.</p>
+ *
+ * <p><b>Limite de main :</b> par défaut le solveur ne s'applique qu'au
+ * dernier cycle (deux cartes par joueur, quelques centaines de positions).
+ * À trois cartes par joueur, une résolution visite de l'ordre de 20 000
+ * positions par tirage ; la limite se règle pour chaque partie avec
+ * {@link model.players.strategies.SearchBudget#getEndgameHandLimit()}.</p>
+ *
+ * <p>Un solveur n'est pas partagé entre threads ; la table, elle, l'est.</p>
+ *
+ * @see model.game.FullHandRound#getLargestHandSize()
+ */
+public final class EndgameSolver {
+    public static final int DEFAULT_HAND_LIMIT = 2;
+    public static final int TABLE_BUCKETS = 1 << 18;
+    public static final int DEFAULT_SAMPLES = 8;
+
+    private static final TranspositionTable SHARED_TABLE = new TranspositionTable(TABLE_BUCKETS);
+
+    private final int handLimit;
+    private final TranspositionTable table;
+    private long salt;
+    private int scoreBits;
+    private int[] moveStack = new int[256];
+    private long solvedPositions;
+
+    public EndgameSolver() {
+        this(DEFAULT_HAND_LIMIT);
+    }
+
+    /**
+     * @param handLimit nombre maximal de cartes par joueur (main et offre) à partir duquel le solveur s'applique
+     *                  (0 : solveur désactivé)
+     */
+    public EndgameSolver(int handLimit) {
+        this(handLimit, SHARED_TABLE);
+    }
+
+    /**
+     * @param table table de transpositions à utiliser (partageable entre threads)
+     */
+    public EndgameSolver(int handLimit, TranspositionTable table) {
+        if (handLimit < 0) {
+            throw new IllegalArgumentException("handLimit must not be negative");
+        }
+        if (table == null) {
+            throw new IllegalArgumentException("table must not be null");
+        }
+        this.handLimit = handLimit;
+        this.table = table;
+    }
+
+    public int getHandLimit() {
+        return handLimit;
+    }
+
+    /**
+     * @return {@code true} si le tour est un tour Full Hand dont les mains ne dépassent plus la limite
+     */
+    public boolean applies(Round round) {
+        return handLimit > 0 && round instanceof FullHandRound fullHandRound
+                && fullHandRound.isInitialDistributionDone()
+                && fullHandRound.getLargestHandSize() <= handLimit;
+    }
+
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    /**
+     * @return nombre de positions évaluées depuis la création (hors lectures de la table)
+     */
+    public long getSolvedPositions() {
+        return solvedPositions;
+    }
+
+    /**
+     * Meilleure offre du joueur courant, en moyenne sur les tirages.
+     *
+     * @param samples tirages placés sur l'offre du joueur
+     * @param player joueur qui fait l'offre
+     * @return <code>{carte visible, carte cachée}</code> en ordinaux
+     */
+    public int[] bestOffer(Playout[] samples, int player) {
+        int move = bestMove(samples, player);
+        return move < 0 ? null : new int[] { Moves.faceUpOrdinal(move), Moves.faceDownOrdinal(move) };
+    }
+
+    /**
+     * Meilleur choix du joueur courant, en moyenne sur les tirages.
+     *
+     * @param samples tirages placés sur le choix du joueur
+     * @param player joueur qui choisit
+     * @return <code>{propriétaire de l'offre, 1 pour la carte visible ou 0}</code>
+     */
+    public int[] bestTake(Playout[] samples, int player) {
+        int move = bestMove(samples, player);
+        return move < 0 ? null : new int[] { Moves.offerOwner(move), Moves.takesFaceUp(move) ? 1 : 0 };
+    }
+
+    /**
+     * @return coup ({@link Moves}) dont le score final moyen du joueur est le meilleur, -1 s'il n'y en a pas
+     */
+    public int bestMove(Playout[] samples, int player) {
+        int[] moves = new int[Moves.count(samples[0])];
+        int count = Moves.generate(samples[0], moves, 0);
+        int best = -1;
+        long bestTotal = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            long total = 0;
+            for (Playout sample : samples) {
+                Moves.apply(sample, moves[i]);
+                total += solve(sample)[player];
+                sample.undo();
+            }
+            if (total > bestTotal) {
+                bestTotal = total;
+                best = moves[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Résout une position à information parfaite. La position est parcourue
+     * coup par coup puis rétablie ({@link Playout#undo()}).
+     *
+     * @return score final de chaque joueur si chacun maximise le sien
+     */
+    public int[] solve(Playout state) {
+        int playerCount = state.getPlayerCount();
+        scoreBits = TranspositionTable.PAYLOAD_BITS / playerCount;
+        salt = mix(state.getVariant().getClass().getName().hashCode() * 31L + playerCount);
+        return search(state, 0);
+    }
+
+    /**
+     * @param from début de la zone libre de {@link #moveStack}
+     */
+    private int[] search(Playout state, int from) {
+        long key = state.getZobristHash() ^ salt;
+        long stored = table.probe(key);
+        if (stored >= 0) {
+            return unpack(stored, state.getPlayerCount());
+        }
+
+        solvedPositions++;
+        int[] best;
+        if (state.isOver()) {
+            best = state.finalScores();
+        } else {
+            int actor = state.getActor();
+            if (moveStack.length < from + Moves.count(state)) {
+                moveStack = Arrays.copyOf(moveStack, Math.max(moveStack.length * 2, from + Moves.count(state)));
+            }
+            int to = Moves.generate(state, moveStack, from);
+            best = null;
+            for (int i = from; i < to; i++) {
+                Moves.apply(state, moveStack[i]);
+                int[] value = search(state, to);
+                state.undo();
+                if (best == null || value[actor] > best[actor]) {
+                    best = value;
+                }
+            }
+        }
+
+        long payload = pack(best);
+        if (payload >= 0) {
+            table.store(key, payload, remainingCards(state));
+        }
+        return best;
+    }
+
+    /**
+     * @return les scores tassés, ou -1 si l'un d'eux ne tient pas dans sa part
+     */
+    private long pack(int[] scores) {
+        long bias = 1L << (scoreBits - 1);
+        long payload = 0L;
+        for (int player = scores.length - 1; player >= 0; player--) {
+            long biased = scores[player] + bias;
+            if (biased < 0 || biased >= 1L << scoreBits) {
+                return -1L;
+            }
+            payload = payload << scoreBits | biased;
+        }
+        return payload;
+    }
+
+    private int[] unpack(long payload, int playerCount) {
+        long bias = 1L << (scoreBits - 1);
+        long mask = (1L << scoreBits) - 1;
+        int[] scores = new int[playerCount];
+        for (int player = 0; player < playerCount; player++) {
+            scores[player] = (int) ((payload & mask) - bias);
+            payload >>>= scoreBits;
+        }
+        return scores;
+    }
+
+    private static int remainingCards(Playout state) {
+        int cards = 0;
+        for (int player = 0; player < state.getPlayerCount(); player++) {
+            cards += Long.bitCount(state.getHand(player));
+            cards += state.getFaceUp(player) != Playout.NO_CARD ? 1 : 0;
+            cards += state.getFaceDown(player) != Playout.NO_CARD ? 1 : 0;
+        }
+        return cards;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,380 @@
+package model.simulation;
+
+import model.cards.Card;
+import model.cards.CardMask;
+import model.cards.ExtensionCard;
+import model.game.ExtensionManager;
+import model.game.FullHandRound;
+import model.game.Game;
+import model.game.GameConfiguration;
+import model.game.GameVariant;
+import model.game.Round;
+import model.game.variants.FullHandVariant;
+import model.game.variants.StandardVariant;
+import model.players.Offer;
+import model.players.Player;
+import model.players.VirtualPlayer;
+import model.players.strategies.StrategyType;
+
+import java.util.ArrayList;
+
+/**
+ * Moteur de partie sans interface pour joueurs virtuels.
+ *
+ * <p>Ce moteur déroule une partie complète (variantes Standard, Reverse Scoring
+ * et Full Hand) avec les mêmes règles que {@link controller.GameController},
+ * {@link controller.RoundController} et {@link controller.FullHandRoundController},
+ * mais sans créer de vue ni produire d'affichage. Il est destiné aux simulations
+ * massives de parties entre IA.</p>
+ *
+ * <p><b>Contraintes :</b></p>
+ * <ul>
+ *   <li>Tous les joueurs doivent être des {@link VirtualPlayer}</li>
+ *   <li>La sélection d'extensions doit être valide pour le nombre de joueurs</li>
+ *   <li>Une même graine et une même configuration reproduisent la même partie</li>
+ * </ul>
+ *
+ * <p><b>Utilisation :</b></p>
+ * <pre>
+ * GameResult result = GameEngine.play(config, 42L);
+ * int score = result.getScore(0);
+ * </pre>
+ *
+ * <p><b>Rejeu :</b> une partie peut enregistrer ses décisions dans un
+ * {@link ReplayLog} ({@link #play(GameConfiguration, long, boolean)}) ;
+ * {@link #replay(ReplayLog)} la rejoue ensuite à l'identique sans consulter
+ * les stratégies.</p>
+ *
+ * @see model.simulation.GameResult
+ * @see model.game.GameConfiguration
+ */
+public class GameEngine {
+    private final Game game;
+    private final long seed;
+    private final ArrayList<GameResult.RoundSummary> rounds;
+    private int roundNumber;
+    private ReplayLog.Recorder recorder;
+    private ReplayLog.Cursor replay;
+
+    public GameEngine(Game game, long seed) {
+        if (game == null) {
+            throw new IllegalArgumentException("game must not be null");
+        }
+        for (Player player : game.getPlayers()) {
+            if (!(player instanceof VirtualPlayer)) {
+                throw new IllegalArgumentException("Headless games only support virtual players: " + player.getName());
+            }
+        }
+        this.game = game;
+        this.seed = seed;
+        this.rounds = new ArrayList<>();
+        this.roundNumber = 0;
+    }
+
+    /**
+     * Joue une partie complète sans interface.
+     *
+     * @param config configuration de la partie (joueurs virtuels, variante, extensions)
+     * @param seed graine utilisée pour le mélange du deck et les stratégies aléatoires
+     * @return résultat de la partie
+     * @throws IllegalArgumentException si la configuration n'est pas jouable sans interface
+     */
+    public static GameResult play(GameConfiguration config, long seed) {
+        return play(config, seed, false);
+    }
+
+    /**
+     * @param recordReplay enregistre les décisions, disponibles via {@link GameResult#getReplay()}
+     * @see #play(GameConfiguration, long)
+     */
+    public static GameResult play(GameConfiguration config, long seed, boolean recordReplay) {
+        GameEngine engine = new GameEngine(createGame(config, seed), seed);
+        if (recordReplay) {
+            engine.recorder = new ReplayLog.Recorder(config, seed);
+        }
+        return engine.run();
+    }
+
+    /**
+     * Rejoue une partie enregistrée : la graine recrée le deck et les trophées,
+     * les décisions sont lues dans le journal au lieu d'être demandées aux stratégies.
+     *
+     * @return résultat de la partie rejouée, identique à celui de la partie enregistrée
+     * @throws IllegalStateException si le journal ne correspond pas à la partie recréée
+     */
+    public static GameResult replay(ReplayLog log) {
+        GameEngine engine = new GameEngine(createGame(log.getConfiguration(), log.getSeed()), log.getSeed());
+        engine.replay = log.decisions();
+        GameResult result = engine.run();
+        if (engine.replay.hasNext()) {
+            throw new IllegalStateException("Replay diverged: decisions left after the end of the game");
+        }
+        return result;
+    }
+
+    /**
+     * Construit une partie prête à être jouée (joueurs ajoutés, extensions mélangées,
+     * trophées tirés) à partir d'une configuration.
+     *
+     * <p>Les cartes sont immuables : les parties issues d'une même configuration
+     * partagent les mêmes exemplaires de cartes, extensions comprises.</p>
+     *
+     * @param config configuration de la partie
+     * @param seed graine de la partie
+     * @return partie initialisée
+     * @throws IllegalArgumentException si la configuration n'est pas jouable sans interface
+     */
+    public static Game createGame(GameConfiguration config, long seed) {
+        if (config == null) {
+            throw new IllegalArgumentException("config must not be null");
+        }
+
+        GameVariant variant = config.getVariant() != null ? config.getVariant() : new StandardVariant();
+        int playerCount = config.getPlayerConfigs().size();
+        if (playerCount < variant.getMinPlayers() || playerCount > variant.getMaxPlayers()) {
+            throw new IllegalArgumentException(
+                    "This variant supports " + variant.getMinPlayers() +
+                    " to " + variant.getMaxPlayers() + " players only.");
+        }
+
+        Game game = new Game(seed);
+        game.setVariant(variant);
+        game.setSearchBudget(config.getSearchBudget());
+
+        for (GameConfiguration.PlayerConfiguration playerConfig : config.getPlayerConfigs()) {
+            if (playerConfig.isHuman() || playerConfig.getStrategy() == null) {
+                throw new IllegalArgumentException(
+                        "Headless games only support virtual players: " + playerConfig.getName());
+            }
+            game.addVirtualPlayer(playerConfig.getName(), playerConfig.getStrategy());
+        }
+
+        ArrayList<Integer> selectedIndices = new ArrayList<>();
+        ArrayList<ExtensionCard> cardsToAdd = new ArrayList<>();
+        for (ExtensionCard selected : config.getSelectedExtensions()) {
+            ExtensionCard card = ExtensionManager.getExtension(selected.getName());
+            if (card == null) {
+                throw new IllegalArgumentException("Unknown extension: " + selected.getName());
+            }
+            selectedIndices.add(card.getOrdinal() - CardMask.FIRST_EXTENSION_ORDINAL);
+            cardsToAdd.add(card);
+        }
+        if (!ExtensionManager.isValidSelection(selectedIndices, playerCount)) {
+            throw new IllegalArgumentException(
+                    ExtensionManager.getInvalidSelectionMessage(selectedIndices, playerCount));
+        }
+        game.getDeck().addExtensions(cardsToAdd);
+
+        game.chooseTrophies(playerCount);
+        return game;
+    }
+
+    /**
+     * Déroule la partie jusqu'à son terme puis calcule trophées et scores.
+     *
+     * @return résultat de la partie
+     */
+    public GameResult run() {
+        if (game.getVariant() instanceof FullHandVariant) {
+            playFullHandGame();
+        } else {
+            playStandardGame();
+        }
+        return endGame();
+    }
+
+    private void playStandardGame() {
+        while (!game.getDeck().isEmpty()) {
+            Round round = new Round(game.getPlayers(), game.getDeck(), game.nextRoundNumber());
+            game.setCurrentRound(round);
+
+            round.dealCards();
+            makeOffersPhase(round);
+
+            Player startingPlayer = round.determineStartingPlayer();
+            playChoosingPhase(round, startingPlayer);
+
+            if (!game.getDeck().isEmpty()) {
+                round.returnRemainingCardsToDeck();
+                round.setIsOver(true);
+            }
+        }
+    }
+
+    private void playFullHandGame() {
+        FullHandRound round = new FullHandRound(game.getPlayers(), game.getDeck(), game.nextRoundNumber());
+        game.setCurrentRound(round);
+        round.distributeAllCards();
+
+        while (!round.isOver()) {
+            makeOffersPhase(round);
+
+            Player startingPlayer = round.determineStartingPlayer();
+            if (startingPlayer != null && startingPlayer.getOffer() != null) {
+                playChoosingPhase(round, startingPlayer);
+            }
+
+            returnRemainingOfferCards(round);
+        }
+
+        round.finalizeRound();
+    }
+
+    private void makeOffersPhase(Round round) {
+        for (Player player : round.getPlayers()) {
+            Offer offer = replay != null ? replayOffer(player) : player.makeOffer();
+            if (recorder != null) {
+                recorder.decision(offer == null ? 0 : ReplayLog.offerCode(
+                        offer.getFaceUpCard().getOrdinal(), offer.getFaceDownCard().getOrdinal()));
+            }
+            if (offer != null) {
+                round.addOffer(offer);
+            }
+        }
+    }
+
+    private Offer replayOffer(Player player) {
+        int code = nextDecision();
+        if (code == 0) {
+            return null;
+        }
+        Card faceUpCard = cardInHand(player, replay.card(ReplayLog.faceUpOrdinal(code)));
+        Card faceDownCard = cardInHand(player, replay.card(ReplayLog.faceDownOrdinal(code)));
+        if (faceUpCard == null || faceDownCard == null || faceUpCard == faceDownCard) {
+            throw new IllegalStateException("Replay diverged: " + player.getName() + " cannot offer these cards");
+        }
+        Offer offer = new Offer(player, faceUpCard, faceDownCard);
+        player.setOffer(offer);
+        player.getHand().remove(faceUpCard);
+        player.getHand().remove(faceDownCard);
+        return offer;
+    }
+
+    private static Card cardInHand(Player player, int ordinal) {
+        for (Card card : player.getHand()) {
+            if (card.getOrdinal() == ordinal) {
+                return card;
+            }
+        }
+        return null;
+    }
+
+    private Offer replayTake(Player player, ArrayList<Offer> availableOffers) {
+        int code = nextDecision();
+        if (code == 0) {
+            return null;
+        }
+        int seat = ReplayLog.ownerSeat(code);
+        Offer offer = seat < game.getPlayers().size() ? game.getPlayers().get(seat).getOffer() : null;
+        if (offer == null || !availableOffers.contains(offer)) {
+            throw new IllegalStateException("Replay diverged: " + player.getName() + " cannot take this offer");
+        }
+        player.getJest().addCard(offer.takeCard(ReplayLog.takesFaceUp(code)));
+        return offer;
+    }
+
+    private int nextDecision() {
+        if (!replay.hasNext()) {
+            throw new IllegalStateException("Replay diverged: the game continues after the last decision");
+        }
+        return replay.nextInt();
+    }
+
+    private void playChoosingPhase(Round round, Player startingPlayer) {
+        GameResult.RoundSummary summary = new GameResult.RoundSummary(++roundNumber, startingPlayer.getName());
+        rounds.add(summary);
+
+        Player currentPlayer = startingPlayer;
+        int maxTurns = round.getPlayers().size();
+        round.setAlreadyPlayed(new ArrayList<>());
+
+        for (int turns = 0; turns < maxTurns; turns++) {
+            ArrayList<Offer> availableOffers = round.getAvailableOffers();
+            if (availableOffers.isEmpty()) {
+                break;
+            }
+
+            Offer takenOffer = replay != null
+                    ? replayTake(currentPlayer, availableOffers)
+                    : currentPlayer.chooseCard(availableOffers);
+            if (recorder != null) {
+                recorder.decision(takenOffer == null ? 0 : ReplayLog.takeCode(
+                        game.getPlayers().indexOf(takenOffer.getOwner()), takenOffer.getFaceUpCard() == null));
+            }
+            if (takenOffer != null) {
+                summary.addTake(new GameResult.Take(currentPlayer.getName(), takenOffer.getOwner().getName(),
+                        takenOffer.getFaceUpCard() == null, currentPlayer.getLastCard()));
+            }
+
+            round.getAlreadyPlayed().add(currentPlayer);
+            if (round.getAlreadyPlayed().size() <= maxTurns - 1) {
+                currentPlayer = round.getNextPlayer(round.getAlreadyPlayed(), takenOffer);
+            } else {
+                round.setIsOver(true);
+            }
+        }
+    }
+
+    private void returnRemainingOfferCards(Round round) {
+        for (Player player : round.getPlayers()) {
+            Offer offer = player.getOffer();
+            if (offer != null) {
+                if (offer.getFaceUpCard() != null) {
+                    player.addToHand(offer.getFaceUpCard());
+                }
+                if (offer.getFaceDownCard() != null) {
+                    player.addToHand(offer.getFaceDownCard());
+                }
+                player.setOffer(null);
+            }
+        }
+    }
+
+    private GameResult endGame() {
+        ArrayList<Player> players = game.getPlayers();
+        for (Player player : players) {
+            if (player.getOffer() != null) {
+                player.takeRemainingOfferCard();
+            }
+        }
+
+        game.assignTrophies();
+        game.calculateAllScores();
+
+        ArrayList<String> names = new ArrayList<>();
+        ArrayList<StrategyType> strategies = new ArrayList<>();
+        int[] scores = new int[players.size()];
+        boolean[] winners = new boolean[players.size()];
+        ArrayList<Player> winningPlayers = game.getWinners();
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            names.add(player.getName());
+            strategies.add(((VirtualPlayer) player).getStrategy());
+            scores[i] = player.getScore();
+            winners[i] = winningPlayers.contains(player);
+        }
+
+        ArrayList<GameResult.TrophyAward> awards = new ArrayList<>();
+        for (Card trophy : game.getTrophies()) {
+            awards.add(new GameResult.TrophyAward(trophy, findTrophyOwner(trophy)));
+        }
+
+        return new GameResult(seed, game.getVariant().getName(), names, strategies, scores, winners, awards, rounds,
+                recorder != null ? recorder.toLog() : null);
+    }
+
+    private String findTrophyOwner(Card trophy) {
+        for (Player player : game.getPlayers()) {
+            for (Card card : player.getJest().getCards()) {
+                if (card == trophy) {
+                    return player.getName();
+                }
+            }
+        }
+        return null;
+    }
+
+    public Game getGame() {
+        return game;
+    }
+}
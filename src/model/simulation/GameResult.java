@@ -0,0 +1,219 @@
+package model.simulation;
+
+import model.cards.Card;
+import model.players.strategies.StrategyType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Résultat d'une partie jouée sans interface par {@link GameEngine}.
+ *
+ * <p>Cette classe regroupe les informations utiles à l'analyse d'une partie
+ * entre joueurs virtuels, sans conserver de référence vers le modèle.</p>
+ *
+ * <p><b>Informations disponibles :</b></p>
+ * <ul>
+ *   <li>Graine et variante utilisées</li>
+ *   <li>Noms, stratégies et scores finaux des joueurs</li>
+ *   <li>Gagnant(s) de la partie</li>
+ *   <li>Attribution de chaque trophée</li>
+ *   <li>Déroulement de chaque tour (joueur de départ, cartes prises)</li>
+ *   <li>Journal de rejeu, si la partie a été enregistrée</li>
+ * </ul>
+ *
+ * <p>Les joueurs sont indexés dans l'ordre de la configuration.</p>
+ *
+ * @see model.simulation.GameEngine
+ */
+public class GameResult {
+    private final long seed;
+    private final String variantName;
+    private final ArrayList<String> playerNames;
+    private final ArrayList<StrategyType> strategies;
+    private final int[] scores;
+    private final boolean[] winners;
+    private final ArrayList<TrophyAward> trophyAwards;
+    private final ArrayList<RoundSummary> rounds;
+    private final ReplayLog replay;
+
+    GameResult(long seed, String variantName, ArrayList<String> playerNames, ArrayList<StrategyType> strategies,
+            int[] scores, boolean[] winners, ArrayList<TrophyAward> trophyAwards, ArrayList<RoundSummary> rounds,
+            ReplayLog replay) {
+        this.seed = seed;
+        this.variantName = variantName;
+        this.playerNames = playerNames;
+        this.strategies = strategies;
+        this.scores = scores;
+        this.winners = winners;
+        this.trophyAwards = trophyAwards;
+        this.rounds = rounds;
+        this.replay = replay;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getVariantName() {
+        return variantName;
+    }
+
+    public int getPlayerCount() {
+        return playerNames.size();
+    }
+
+    public String getPlayerName(int playerIndex) {
+        return playerNames.get(playerIndex);
+    }
+
+    public StrategyType getStrategy(int playerIndex) {
+        return strategies.get(playerIndex);
+    }
+
+    public int getScore(int playerIndex) {
+        return scores[playerIndex];
+    }
+
+    public boolean isWinner(int playerIndex) {
+        return winners[playerIndex];
+    }
+
+    public List<String> getWinnerNames() {
+        ArrayList<String> names = new ArrayList<>();
+        for (int i = 0; i < winners.length; i++) {
+            if (winners[i]) {
+                names.add(playerNames.get(i));
+            }
+        }
+        return names;
+    }
+
+    public List<TrophyAward> getTrophyAwards() {
+        return Collections.unmodifiableList(trophyAwards);
+    }
+
+    public List<RoundSummary> getRounds() {
+        return Collections.unmodifiableList(rounds);
+    }
+
+    /**
+     * @return journal de rejeu, ou {@code null} si la partie n'a pas été enregistrée
+     * @see GameEngine#play(model.game.GameConfiguration, long, boolean)
+     */
+    public ReplayLog getReplay() {
+        return replay;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(variantName).append(" (seed ").append(seed).append(")");
+        for (int i = 0; i < playerNames.size(); i++) {
+            sb.append(" ").append(playerNames.get(i)).append("=").append(scores[i]);
+        }
+        sb.append(" winners=").append(getWinnerNames());
+        return sb.toString();
+    }
+
+    /**
+     * Attribution d'un trophée en fin de partie.
+     */
+    public static class TrophyAward {
+        private final Card trophy;
+        private final String winnerName;
+
+        TrophyAward(Card trophy, String winnerName) {
+            this.trophy = trophy;
+            this.winnerName = winnerName;
+        }
+
+        public Card getTrophy() {
+            return trophy;
+        }
+
+        /**
+         * @return nom du joueur ayant remporté le trophée, ou {@code null} s'il n'a pas été attribué
+         */
+        public String getWinnerName() {
+            return winnerName;
+        }
+
+        @Override
+        public String toString() {
+            return trophy + " (" + trophy.trophyInfo() + ") -> " + winnerName;
+        }
+    }
+
+    /**
+     * Déroulement d'un tour : joueur de départ et cartes prises dans l'ordre de jeu.
+     *
+     * <p>En variante Full Hand, chaque cycle offres/choix est enregistré comme un tour.</p>
+     */
+    public static class RoundSummary {
+        private final int roundNumber;
+        private final String startingPlayer;
+        private final ArrayList<Take> takes;
+
+        RoundSummary(int roundNumber, String startingPlayer) {
+            this.roundNumber = roundNumber;
+            this.startingPlayer = startingPlayer;
+            this.takes = new ArrayList<>();
+        }
+
+        void addTake(Take take) {
+            takes.add(take);
+        }
+
+        public int getRoundNumber() {
+            return roundNumber;
+        }
+
+        public String getStartingPlayer() {
+            return startingPlayer;
+        }
+
+        public List<Take> getTakes() {
+            return Collections.unmodifiableList(takes);
+        }
+    }
+
+    /**
+     * Carte prise par un joueur dans une offre.
+     */
+    public static class Take {
+        private final String playerName;
+        private final String offerOwner;
+        private final boolean faceUp;
+        private final Card card;
+
+        Take(String playerName, String offerOwner, boolean faceUp, Card card) {
+            this.playerName = playerName;
+            this.offerOwner = offerOwner;
+            this.faceUp = faceUp;
+            this.card = card;
+        }
+
+        public String getPlayerName() {
+            return playerName;
+        }
+
+        public String getOfferOwner() {
+            return offerOwner;
+        }
+
+        public boolean isFaceUp() {
+            return faceUp;
+        }
+
+        public Card getCard() {
+            return card;
+        }
+
+        @Override
+        public String toString() {
+            return playerName + " <- " + offerOwner + (faceUp ? " (face up) " : " (face down) ") + card;
+        }
+    }
+}
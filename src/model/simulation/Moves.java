@@ -0,0 +1,144 @@
+package model.simulation;
+
+/**
+ * Coups légaux d'une {@link Playout}, codés sur un <code>int</code>.
+ *
+ * <p>Un coup est soit une offre (carte visible, carte cachée), soit un choix
+ * (propriétaire de l'offre, face). Le codage tient dans un entier pour que
+ * les recherches puissent stocker et comparer les coups sans allouer.</p>
+ *
+ * <p><b>Codage :</b></p>
+ * <ul>
+ *   <li>Offre : <code>1 &lt;&lt; 16 | visible &lt;&lt; 8 | cachée</code> (ordinaux)</li>
+ *   <li>Choix : <code>2 &lt;&lt; 16 | propriétaire &lt;&lt; 1 | 1 si carte visible</code></li>
+ * </ul>
+ *
+ * <p><b>Génération :</b> {@link #generate(Playout, int[], int)} écrit les coups
+ * du joueur courant dans un tableau fourni par l'appelant, dans un ordre fixe :</p>
+ * <ul>
+ *   <li>Offres : toutes les paires ordonnées de la main (n × (n - 1) pour une main
+ *       de n cartes, variante Full Hand comprise), par ordinal visible puis caché croissants</li>
+ *   <li>Choix : pour chaque offre complète choisissable ({@link Playout#choosableOffers()},
+ *       la sienne seulement si c'est la dernière, comme
+ *       {@link model.players.VirtualPlayer#chooseCard(java.util.ArrayList)}),
+ *       la carte visible puis la carte cachée</li>
+ * </ul>
+ *
+ * @see Playout
+ * @see EndgameSolver
+ */
+public final class Moves {
+    /**
+     * Nombre maximal de coups pour une position : offres d'une main de 64 cartes.
+     */
+    public static final int MAX_MOVES = Long.SIZE * (Long.SIZE - 1);
+
+    private static final int KIND_SHIFT = 16;
+    private static final int OFFER = 1 << KIND_SHIFT;
+    private static final int TAKE = 2 << KIND_SHIFT;
+
+    private Moves() {
+    }
+
+    public static int offer(int faceUpOrdinal, int faceDownOrdinal) {
+        return OFFER | faceUpOrdinal << 8 | faceDownOrdinal;
+    }
+
+    public static int take(int offerOwner, boolean takeFaceUp) {
+        return TAKE | offerOwner << 1 | (takeFaceUp ? 1 : 0);
+    }
+
+    public static boolean isOffer(int move) {
+        return (move & ~0xFFFF) == OFFER;
+    }
+
+    public static boolean isTake(int move) {
+        return (move & ~0xFFFF) == TAKE;
+    }
+
+    public static int faceUpOrdinal(int move) {
+        return (move >>> 8) & 0xFF;
+    }
+
+    public static int faceDownOrdinal(int move) {
+        return move & 0xFF;
+    }
+
+    public static int offerOwner(int move) {
+        return (move >>> 1) & 0xFF;
+    }
+
+    public static boolean takesFaceUp(int move) {
+        return (move & 1) != 0;
+    }
+
+    /**
+     * Écrit les coups légaux du joueur courant à partir de <code>moves[from]</code>.
+     *
+     * @param moves tableau de destination (au moins {@link #MAX_MOVES} places libres suffisent toujours)
+     * @return indice qui suit le dernier coup écrit (<code>from</code> si la partie est terminée)
+     */
+    public static int generate(Playout state, int[] moves, int from) {
+        int count = from;
+        if (state.isOver()) {
+            return count;
+        }
+        if (state.isOfferPhase()) {
+            long hand = state.getHand(state.getActor());
+            for (long ups = hand; ups != 0; ups &= ups - 1) {
+                int up = Long.numberOfTrailingZeros(ups);
+                for (long downs = hand & ~(1L << up); downs != 0; downs &= downs - 1) {
+                    moves[count++] = offer(up, Long.numberOfTrailingZeros(downs));
+                }
+            }
+            return count;
+        }
+        for (long owners = state.choosableOffers(); owners != 0; owners &= owners - 1) {
+            int owner = Long.numberOfTrailingZeros(owners);
+            moves[count++] = take(owner, true);
+            moves[count++] = take(owner, false);
+        }
+        return count;
+    }
+
+    /**
+     * @return nombre de coups légaux du joueur courant, sans les écrire
+     */
+    public static int count(Playout state) {
+        if (state.isOver()) {
+            return 0;
+        }
+        if (state.isOfferPhase()) {
+            int cards = Long.bitCount(state.getHand(state.getActor()));
+            return cards * (cards - 1);
+        }
+        return 2 * Long.bitCount(state.choosableOffers());
+    }
+
+    /**
+     * Joue un coup (offre ou choix) pour le joueur courant.
+     */
+    public static void play(Playout state, int move) {
+        if (isTake(move)) {
+            state.take(offerOwner(move), takesFaceUp(move));
+        } else if (isOffer(move)) {
+            state.offer(faceUpOrdinal(move), faceDownOrdinal(move));
+        } else {
+            throw new IllegalArgumentException("Not a move: " + Integer.toHexString(move));
+        }
+    }
+
+    /**
+     * Comme {@link #play(Playout, int)}, en gardant le coup dans le journal de la
+     * simulation pour {@link Playout#undo()}.
+     */
+    public static void apply(Playout state, int move) {
+        if (isTake(move)) {
+            state.applyTake(offerOwner(move), takesFaceUp(move));
+        } else if (isOffer(move)) {
+            state.applyOffer(faceUpOrdinal(move), faceDownOrdinal(move));
+        } else {
+            throw new IllegalArgumentException("Not a move: " + Integer.toHexString(move));
+        }
+    }
+}
@@ -0,0 +1,917 @@
+package model.simulation;
+
+import model.cards.Card;
+import model.cards.CardMask;
+import model.cards.Zobrist;
+import model.game.Game;
+import model.game.GameVariant;
+import model.game.Round;
+import model.game.TrophyEngine;
+import model.game.variants.FullHandVariant;
+import model.players.Jest;
+import model.players.Offer;
+import model.players.Player;
+import model.players.Scorer;
+import model.players.ScorerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Partie compacte destinée aux simulations rapides (playouts).
+ *
+ * <p>L'état d'une partie est réduit à des ordinaux et des masques de cartes
+ * ({@link model.cards.CardMask}) : Jest et main de chaque joueur sous forme de
+ * <code>long</code>, offre sous forme de deux ordinaux, deck sous forme de
+ * pile d'ordinaux. Une copie coûte quelques tableaux primitifs, ce qui permet
+ * d'enchaîner des milliers de fins de partie par décision.</p>
+ *
+ * <p><b>Règles simulées :</b> identiques à {@link GameEngine} (tours standard
+ * avec retour des cartes restantes dans le deck, ou variante Full Hand), avec
+ * une politique aléatoire uniforme pour tous les joueurs :</p>
+ * <ul>
+ *   <li>Offre : carte visible et carte cachée tirées au hasard dans la main</li>
+ *   <li>Choix : offre complète adverse au hasard (la sienne en dernier recours), face visible ou cachée au hasard</li>
+ * </ul>
+ *
+ * <p><b>Pas à pas :</b> la simulation s'arrête sur chaque décision
+ * ({@link #getActor()}, {@link #isOfferPhase()}) ; {@link #offer(int, int)} et
+ * {@link #take(int, boolean)} jouent un coup et enchaînent les transitions
+ * automatiques (fin de tour, distribution, nouveau cycle Full Hand).</p>
+ *
+ * <p><b>Recherche :</b> {@link #applyOffer(int, int)} et
+ * {@link #applyTake(int, boolean)} jouent un coup en le gardant dans un
+ * journal ; {@link #undo()} rétablit la position précédente, sans allocation
+ * une fois le journal dimensionné. {@link #copyFrom(Playout)} réutilise une
+ * copie existante au lieu d'en créer une.</p>
+ *
+ * <p><b>Conversion :</b> {@link #capture(Game, Player, boolean)} construit la
+ * simulation à partir d'une partie réelle (mains, Jests, offres, ordre du
+ * deck, trophées, variante, joueur courant et joueurs ayant déjà choisi) ;
+ * {@link #restore(Game)} réécrit la position dans la partie et son tour en
+ * cours. Seul l'ordre des cartes dans les mains et les Jests n'est pas
+ * conservé : il n'a pas d'effet sur les règles.</p>
+ *
+ * <p>Le score final (trophées compris) est calculé par le scorer de la
+ * configuration ({@link ScorerFactory}), à partir des vraies cartes indexées par ordinal.</p>
+ *
+ * @see model.players.strategies.MonteCarloStrategy
+ * @see model.players.strategies.MctsStrategy
+ */
+public final class Playout {
+    public static final int NO_CARD = -1;
+
+    private static final int PHASE_OFFER = 0;
+    private static final int PHASE_CHOOSE = 1;
+    private static final int PHASE_OVER = 2;
+
+    private final Setup setup;
+    private final long[] jests;
+    private final long[] hands;
+    private final int[] faceUp;
+    private final int[] faceDown;
+    private final int[] deck;
+    private int deckSize;
+    private int phase;
+    private int actor;
+    private long played;
+    private int roundNumber;
+    private long cardsHash;
+    private long[] undoStack;
+    private int undoSize;
+
+    /**
+     * @param cardsByOrdinal cartes de la partie indexées par ordinal
+     * @param trophies trophées de la partie (hors Jests)
+     * @param variant variante jouée
+     * @param playerCount nombre de joueurs
+     */
+    public Playout(Card[] cardsByOrdinal, List<Card> trophies, GameVariant variant, int playerCount) {
+        this.setup = new Setup(cardsByOrdinal, trophies, variant, playerCount);
+        this.jests = new long[playerCount];
+        this.hands = new long[playerCount];
+        this.faceUp = new int[playerCount];
+        this.faceDown = new int[playerCount];
+        this.deck = new int[Long.SIZE];
+        this.deckSize = 0;
+        this.phase = PHASE_OFFER;
+        this.cardsHash = setup.trophiesHash;
+        Arrays.fill(faceUp, NO_CARD);
+        Arrays.fill(faceDown, NO_CARD);
+    }
+
+    private Playout(Playout other) {
+        this.setup = other.setup;
+        this.jests = other.jests.clone();
+        this.hands = other.hands.clone();
+        this.faceUp = other.faceUp.clone();
+        this.faceDown = other.faceDown.clone();
+        this.deck = other.deck.clone();
+        this.deckSize = other.deckSize;
+        this.phase = other.phase;
+        this.actor = other.actor;
+        this.played = other.played;
+        this.roundNumber = other.roundNumber;
+        this.cardsHash = other.cardsHash;
+    }
+
+    public Playout copy() {
+        return new Playout(this);
+    }
+
+    /**
+     * Recopie la position d'une simulation de la même partie, sans allocation.
+     * Le journal de coups de cette simulation est vidé.
+     */
+    public void copyFrom(Playout other) {
+        if (other.setup != setup) {
+            throw new IllegalArgumentException("Playouts do not share the same setup");
+        }
+        System.arraycopy(other.jests, 0, jests, 0, jests.length);
+        System.arraycopy(other.hands, 0, hands, 0, hands.length);
+        System.arraycopy(other.faceUp, 0, faceUp, 0, faceUp.length);
+        System.arraycopy(other.faceDown, 0, faceDown, 0, faceDown.length);
+        System.arraycopy(other.deck, 0, deck, 0, deck.length);
+        deckSize = other.deckSize;
+        phase = other.phase;
+        actor = other.actor;
+        played = other.played;
+        roundNumber = other.roundNumber;
+        cardsHash = other.cardsHash;
+        undoSize = 0;
+    }
+
+    /**
+     * Construit la simulation d'une partie réelle, placée sur la décision d'un joueur.
+     *
+     * @param game partie en cours (variante définie)
+     * @param actor joueur qui doit décider
+     * @param offerPhase {@code true} pour une offre, {@code false} pour un choix
+     * @return la position complète, toutes cartes visibles
+     * @throws IllegalArgumentException si le joueur n'est pas dans la partie
+     *         ou si une carte n'a pas d'ordinal
+     */
+    public static Playout capture(Game game, Player actor, boolean offerPhase) {
+        if (game == null || game.getVariant() == null) {
+            throw new IllegalArgumentException("game must have a variant");
+        }
+        List<Player> players = game.getPlayers();
+        int actorIndex = players.indexOf(actor);
+        if (actorIndex < 0) {
+            throw new IllegalArgumentException("Player is not in this game: " + actor);
+        }
+
+        Card[] cards = new Card[CardMask.MAX_ORDINAL + 1];
+        register(cards, game.getTrophies());
+        for (Player player : players) {
+            register(cards, player.getJest().getCards());
+            register(cards, player.getHand());
+            Offer offer = player.getOffer();
+            if (offer != null) {
+                register(cards, offer.getOfferedCard());
+            }
+        }
+        register(cards, game.getDeck().getCards());
+
+        Playout state = new Playout(cards, game.getTrophies(), game.getVariant(), players.size());
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            state.setJest(i, CardMask.of(player.getJest().getCards()));
+            state.setHand(i, CardMask.of(player.getHand()));
+            Offer offer = player.getOffer();
+            if (offer != null) {
+                state.setOffer(i, ordinalOf(offer.getFaceUpCard()), ordinalOf(offer.getFaceDownCard()));
+            }
+        }
+        List<Card> deckCards = game.getDeck().getCards();
+        int[] deckOrdinals = new int[deckCards.size()];
+        for (int i = 0; i < deckOrdinals.length; i++) {
+            deckOrdinals[i] = deckCards.get(i).getOrdinal();
+        }
+        state.setDeck(deckOrdinals, deckOrdinals.length);
+
+        if (offerPhase) {
+            state.beginOffers(actorIndex);
+        } else {
+            long alreadyPlayed = 0L;
+            Round round = game.getCurrentRound();
+            if (round != null && round.getAlreadyPlayed() != null) {
+                for (Player player : round.getAlreadyPlayed()) {
+                    alreadyPlayed |= 1L << players.indexOf(player);
+                }
+            }
+            state.beginChoice(actorIndex, alreadyPlayed);
+        }
+        return state;
+    }
+
+    private static void register(Card[] cards, List<? extends Card> zone) {
+        for (Card card : zone) {
+            int ordinal = card.getOrdinal();
+            if (ordinal < 0 || ordinal > CardMask.MAX_ORDINAL) {
+                throw new IllegalArgumentException("Card without ordinal: " + card);
+            }
+            if (cards[ordinal] != null) {
+                throw new IllegalArgumentException("Card found twice: " + card);
+            }
+            cards[ordinal] = card;
+        }
+    }
+
+    private static int ordinalOf(Card card) {
+        return card == null ? NO_CARD : card.getOrdinal();
+    }
+
+    /**
+     * Réécrit la position dans une partie réelle : mains, Jests, offres et deck
+     * de chaque joueur, offres et joueurs ayant déjà choisi du tour en cours.
+     * Les offres existantes sont réutilisées pour garder les références du tour.
+     *
+     * @param game partie dont les joueurs correspondent à ceux de la simulation
+     */
+    public void restore(Game game) {
+        List<Player> players = game.getPlayers();
+        if (players.size() != jests.length) {
+            throw new IllegalArgumentException("Expected " + jests.length + " players, got " + players.size());
+        }
+        ArrayList<Player> alreadyPlayed = new ArrayList<>();
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            player.getHand().clear();
+            player.getHand().addAll(setup.toCards(hands[i]));
+            player.getJest().clear();
+            for (Card card : setup.toCards(jests[i])) {
+                player.getJest().addCard(card);
+            }
+            Card up = faceUp[i] == NO_CARD ? null : setup.cards[faceUp[i]];
+            Card down = faceDown[i] == NO_CARD ? null : setup.cards[faceDown[i]];
+            Offer offer = player.getOffer();
+            if (offer != null) {
+                offer.setFaceUpCard(up);
+                offer.setFaceDownCard(down);
+            } else if (up != null || down != null) {
+                player.setOffer(new Offer(player, up, down));
+            }
+            if (phase == PHASE_CHOOSE && (played & (1L << i)) != 0) {
+                alreadyPlayed.add(player);
+            }
+        }
+
+        ArrayList<Card> deckCards = new ArrayList<>(deckSize);
+        for (int i = 0; i < deckSize; i++) {
+            deckCards.add(setup.cards[deck[i]]);
+        }
+        game.getDeck().setCards(deckCards);
+
+        Round round = game.getCurrentRound();
+        if (round != null) {
+            for (Player player : players) {
+                Offer offer = player.getOffer();
+                if (offer != null && !offer.getOfferedCard().isEmpty() && !round.getOffers().contains(offer)) {
+                    round.addOffer(offer);
+                }
+            }
+            if (phase == PHASE_CHOOSE) {
+                round.setAlreadyPlayed(alreadyPlayed);
+            }
+        }
+    }
+
+    public int getPlayerCount() {
+        return jests.length;
+    }
+
+    public GameVariant getVariant() {
+        return setup.variant;
+    }
+
+    public long getJest(int player) {
+        return jests[player];
+    }
+
+    public void setJest(int player, long mask) {
+        toggle(Zobrist.JEST, player, jests[player] ^ mask);
+        jests[player] = mask;
+    }
+
+    public long getHand(int player) {
+        return hands[player];
+    }
+
+    public void setHand(int player, long mask) {
+        toggle(Zobrist.HAND, player, hands[player] ^ mask);
+        hands[player] = mask;
+    }
+
+    public int getFaceUp(int player) {
+        return faceUp[player];
+    }
+
+    public int getFaceDown(int player) {
+        return faceDown[player];
+    }
+
+    public void setOffer(int player, int faceUpOrdinal, int faceDownOrdinal) {
+        toggle(Zobrist.FACE_UP, player, faceUp[player]);
+        toggle(Zobrist.FACE_DOWN, player, faceDown[player]);
+        faceUp[player] = faceUpOrdinal;
+        faceDown[player] = faceDownOrdinal;
+        toggle(Zobrist.FACE_UP, player, faceUpOrdinal);
+        toggle(Zobrist.FACE_DOWN, player, faceDownOrdinal);
+    }
+
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Remplace le contenu du deck ; le dernier élément est la prochaine carte distribuée.
+     */
+    public void setDeck(int[] ordinals, int size) {
+        for (int i = 0; i < deckSize; i++) {
+            cardsHash ^= Zobrist.key(Zobrist.DECK, deck[i]);
+        }
+        System.arraycopy(ordinals, 0, deck, 0, size);
+        deckSize = size;
+        for (int i = 0; i < deckSize; i++) {
+            cardsHash ^= Zobrist.key(Zobrist.DECK, deck[i]);
+        }
+    }
+
+    public boolean isOver() {
+        return phase == PHASE_OVER;
+    }
+
+    public boolean isOfferPhase() {
+        return phase == PHASE_OFFER;
+    }
+
+    /**
+     * @return joueur qui doit jouer, ou <code>-1</code> si la partie est terminée
+     */
+    public int getActor() {
+        return phase == PHASE_OVER ? -1 : actor;
+    }
+
+    /**
+     * @return joueurs ayant déjà choisi pendant le tour en cours (bit <code>i</code> pour le joueur <code>i</code>)
+     */
+    public long getPlayed() {
+        return played;
+    }
+
+    /**
+     * @return nombre de nouveaux tours commencés depuis la création (distribution ou nouveau cycle Full Hand)
+     */
+    public int getRoundNumber() {
+        return roundNumber;
+    }
+
+    public boolean isFullHand() {
+        return setup.fullHand;
+    }
+
+    /**
+     * @return {@code true} si les deux simulations ont les mêmes cartes, trophées et variante,
+     *         donc les mêmes scores pour une même position
+     */
+    public boolean sameRules(Playout other) {
+        return setup == other.setup
+                || (setup.variant == other.setup.variant
+                && setup.trophies.equals(other.setup.trophies)
+                && Arrays.equals(setup.cards, other.setup.cards));
+    }
+
+    /**
+     * Place la simulation en phase d'offres.
+     *
+     * @param firstOfferer premier joueur n'ayant pas encore fait son offre
+     */
+    public void beginOffers(int firstOfferer) {
+        phase = PHASE_OFFER;
+        actor = firstOfferer;
+        played = 0L;
+        settle();
+    }
+
+    /**
+     * Place la simulation en phase de choix.
+     *
+     * @param player joueur qui choisit
+     * @param alreadyPlayed joueurs ayant déjà choisi pendant ce tour
+     */
+    public void beginChoice(int player, long alreadyPlayed) {
+        phase = PHASE_CHOOSE;
+        actor = player;
+        played = alreadyPlayed;
+        settle();
+    }
+
+    /**
+     * Offres que le joueur courant peut choisir : les offres complètes adverses,
+     * ou la sienne en dernier recours.
+     *
+     * @return masque des propriétaires (bit <code>i</code> pour le joueur <code>i</code>)
+     */
+    public long choosableOffers() {
+        long owners = 0L;
+        for (int owner = 0; owner < jests.length; owner++) {
+            if (owner != actor && isComplete(owner)) {
+                owners |= 1L << owner;
+            }
+        }
+        if (owners == 0L && isComplete(actor)) {
+            owners = 1L << actor;
+        }
+        return owners;
+    }
+
+    /**
+     * Le joueur courant place deux cartes de sa main dans son offre.
+     */
+    public void offer(int faceUpOrdinal, int faceDownOrdinal) {
+        if (phase != PHASE_OFFER) {
+            throw new IllegalStateException("Not in the offer phase");
+        }
+        hands[actor] &= ~(1L << faceUpOrdinal) & ~(1L << faceDownOrdinal);
+        faceUp[actor] = faceUpOrdinal;
+        faceDown[actor] = faceDownOrdinal;
+        toggle(Zobrist.HAND, actor, (1L << faceUpOrdinal) | (1L << faceDownOrdinal));
+        toggle(Zobrist.FACE_UP, actor, faceUpOrdinal);
+        toggle(Zobrist.FACE_DOWN, actor, faceDownOrdinal);
+        actor++;
+        settle();
+    }
+
+    /**
+     * Le joueur courant prend une carte dans l'offre d'un joueur.
+     *
+     * @param offerOwner propriétaire de l'offre choisie
+     * @param takeFaceUp {@code true} pour la carte visible
+     */
+    public void take(int offerOwner, boolean takeFaceUp) {
+        if (phase != PHASE_CHOOSE) {
+            throw new IllegalStateException("Not in the choosing phase");
+        }
+        take(actor, offerOwner, takeFaceUp);
+        played |= 1L << actor;
+        if (Long.bitCount(played) < jests.length) {
+            actor = nextPlayer(played, offerOwner);
+        }
+        settle();
+    }
+
+    /**
+     * Comme {@link #offer(int, int)}, en gardant le coup dans le journal pour {@link #undo()}.
+     */
+    public void applyOffer(int faceUpOrdinal, int faceDownOrdinal) {
+        pushUndo();
+        offer(faceUpOrdinal, faceDownOrdinal);
+    }
+
+    /**
+     * Comme {@link #take(int, boolean)}, en gardant le coup dans le journal pour {@link #undo()}.
+     */
+    public void applyTake(int offerOwner, boolean takeFaceUp) {
+        pushUndo();
+        take(offerOwner, takeFaceUp);
+    }
+
+    /**
+     * @return nombre de coups du journal pouvant être annulés
+     */
+    public int getUndoDepth() {
+        return undoSize / frameSize();
+    }
+
+    /**
+     * Annule le dernier coup joué par {@link #applyOffer(int, int)} ou
+     * {@link #applyTake(int, boolean)}, transitions automatiques comprises.
+     */
+    public void undo() {
+        if (undoSize == 0) {
+            throw new IllegalStateException("No move to undo");
+        }
+        int playerCount = jests.length;
+        int at = undoSize - frameSize();
+        undoSize = at;
+        phase = (int) undoStack[at++];
+        actor = (int) undoStack[at++];
+        played = undoStack[at++];
+        roundNumber = (int) undoStack[at++];
+        deckSize = (int) undoStack[at++];
+        cardsHash = undoStack[at++];
+        for (int player = 0; player < playerCount; player++) {
+            jests[player] = undoStack[at++];
+            hands[player] = undoStack[at++];
+            long offer = undoStack[at++];
+            faceUp[player] = (int) (offer >> 32);
+            faceDown[player] = (int) offer;
+        }
+        for (int i = deckSize; i < deckSize + 2 * playerCount && i < deck.length; i++) {
+            deck[i] = (int) undoStack[at++];
+        }
+    }
+
+    /**
+     * Une entrée du journal : scalaires, Jest, main et offre de chaque joueur,
+     * et les emplacements du deck qu'une fin de tour peut réécrire (les cartes
+     * rendues au deck sont empilées au-dessus de <code>deckSize</code>).
+     */
+    private void pushUndo() {
+        int playerCount = jests.length;
+        int size = frameSize();
+        if (undoStack == null) {
+            undoStack = new long[size * 16];
+        } else if (undoSize + size > undoStack.length) {
+            undoStack = Arrays.copyOf(undoStack, undoStack.length * 2);
+        }
+        int at = undoSize;
+        undoStack[at++] = phase;
+        undoStack[at++] = actor;
+        undoStack[at++] = played;
+        undoStack[at++] = roundNumber;
+        undoStack[at++] = deckSize;
+        undoStack[at++] = cardsHash;
+        for (int player = 0; player < playerCount; player++) {
+            undoStack[at++] = jests[player];
+            undoStack[at++] = hands[player];
+            undoStack[at++] = (long) faceUp[player] << 32 | (faceDown[player] & 0xFFFFFFFFL);
+        }
+        for (int i = deckSize; i < deckSize + 2 * playerCount && i < deck.length; i++) {
+            undoStack[at++] = deck[i];
+        }
+        undoSize += size;
+    }
+
+    private int frameSize() {
+        return 6 + 5 * jests.length;
+    }
+
+    /**
+     * Joue la partie jusqu'au bout avec la politique aléatoire uniforme.
+     */
+    public void playRandomly(SplittableRandom random) {
+        while (phase != PHASE_OVER) {
+            if (phase == PHASE_OFFER) {
+                long hand = hands[actor];
+                int up = pickBit(hand, random);
+                int down = pickBit(hand & ~(1L << up), random);
+                offer(up, down);
+            } else {
+                long owners = choosableOffers();
+                int owner = owners == 1L << actor ? actor : pickBit(owners, random);
+                take(owner, random.nextBoolean());
+            }
+        }
+    }
+
+    /**
+     * Termine la phase d'offres à partir d'un joueur, puis joue la partie jusqu'au bout.
+     *
+     * @param firstOfferer premier joueur n'ayant pas encore fait son offre
+     * @param random générateur de la simulation
+     */
+    public void playFromOffers(int firstOfferer, SplittableRandom random) {
+        beginOffers(firstOfferer);
+        playRandomly(random);
+    }
+
+    /**
+     * Applique un choix pendant la phase de choix puis joue la partie jusqu'au bout.
+     *
+     * @param player joueur qui choisit
+     * @param offerOwner propriétaire de l'offre choisie
+     * @param takeFaceUp {@code true} pour la carte visible
+     * @param alreadyPlayed joueurs ayant déjà choisi pendant ce tour (bit <code>i</code> pour le joueur <code>i</code>)
+     * @param random générateur de la simulation
+     */
+    public void playFromChoice(int player, int offerOwner, boolean takeFaceUp, long alreadyPlayed,
+            SplittableRandom random) {
+        beginChoice(player, alreadyPlayed);
+        take(offerOwner, takeFaceUp);
+        playRandomly(random);
+    }
+
+    /**
+     * Empreinte de ce que voit un joueur : sa main, son Jest, son offre, les cartes
+     * visibles, la présence des cartes cachées, la taille des mains et Jests adverses,
+     * la taille du deck et la position dans le tour. Deux états indiscernables pour
+     * ce joueur ont la même empreinte.
+     *
+     * @param observer joueur observateur
+     * @return empreinte sur 64 bits
+     */
+    public long informationKey(int observer) {
+        long key = mix(phase * 31L + actor);
+        key = mix(key ^ played);
+        key = mix(key ^ hands[observer]);
+        key = mix(key ^ jests[observer]);
+        for (int player = 0; player < jests.length; player++) {
+            long slot = (faceUp[player] + 1)
+                    | (long) (faceDown[player] == NO_CARD ? 0 : 1) << 8
+                    | (long) (player == observer ? faceDown[player] + 1 : 0) << 9
+                    | (long) Long.bitCount(hands[player]) << 16
+                    | (long) Long.bitCount(jests[player]) << 24;
+            key = mix(key ^ slot);
+        }
+        return mix(key ^ deckSize);
+    }
+
+    /**
+     * Empreinte de Zobrist de la position, maintenue à chaque coup : mêmes
+     * composantes que {@link model.game.Game#getZobristHash(model.players.Player)}
+     * (cartes de chaque emplacement, trophées, joueur courant), plus la phase et
+     * les joueurs ayant déjà choisi.
+     */
+    public long getZobristHash() {
+        long hash = cardsHash;
+        if (phase == PHASE_OVER) {
+            return hash;
+        }
+        hash ^= Zobrist.turn(actor);
+        if (phase == PHASE_OFFER) {
+            return hash ^ Zobrist.offerPhase();
+        }
+        for (long bits = played; bits != 0; bits &= bits - 1) {
+            hash ^= Zobrist.played(Long.numberOfTrailingZeros(bits));
+        }
+        return hash;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Calcule les scores finaux : cartes restantes des offres ajoutées aux Jests,
+     * trophées attribués puis score de chaque joueur selon la variante.
+     *
+     * @return score final de chaque joueur
+     */
+    public int[] finalScores() {
+        int playerCount = jests.length;
+        Jest[] finalJests = new Jest[playerCount];
+        for (int player = 0; player < playerCount; player++) {
+            long mask = jests[player];
+            if (faceUp[player] != NO_CARD) {
+                mask |= 1L << faceUp[player];
+            }
+            if (faceDown[player] != NO_CARD) {
+                mask |= 1L << faceDown[player];
+            }
+            finalJests[player] = setup.toJest(mask);
+        }
+
+        new TrophyEngine(finalJests, setup.variant).assignTrophies(setup.trophies);
+
+        int[] scores = new int[playerCount];
+        for (int player = 0; player < playerCount; player++) {
+            scores[player] = setup.scorer.score(finalJests[player]);
+        }
+        return scores;
+    }
+
+    /**
+     * Enchaîne les transitions automatiques jusqu'à la prochaine décision :
+     * joueurs sans offre possible, fin de tour, distribution ou nouveau cycle
+     * Full Hand, fin de partie.
+     */
+    private void settle() {
+        while (true) {
+            if (phase == PHASE_OFFER) {
+                while (actor < jests.length && Long.bitCount(hands[actor]) < 2) {
+                    actor++;
+                }
+                if (actor < jests.length) {
+                    return;
+                }
+                phase = PHASE_CHOOSE;
+                actor = startingPlayer();
+                played = 0L;
+            } else if (phase == PHASE_CHOOSE) {
+                if (Long.bitCount(played) < jests.length && choosableOffers() != 0L) {
+                    return;
+                }
+                endRound();
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void endRound() {
+        if (setup.fullHand) {
+            returnOffersToHands();
+            if (anyHandLargerThanOne()) {
+                startRound();
+                return;
+            }
+            for (int player = 0; player < jests.length; player++) {
+                if (Long.bitCount(hands[player]) == 1) {
+                    toggle(Zobrist.HAND, player, hands[player]);
+                    toggle(Zobrist.JEST, player, hands[player]);
+                    jests[player] |= hands[player];
+                    hands[player] = 0L;
+                }
+            }
+            phase = PHASE_OVER;
+            return;
+        }
+
+        if (deckSize == 0) {
+            phase = PHASE_OVER;
+            return;
+        }
+        returnOffersToDeck();
+        for (int player = 0; player < jests.length; player++) {
+            for (int i = 0; i < 2; i++) {
+                int ordinal = deck[--deckSize];
+                cardsHash ^= Zobrist.key(Zobrist.DECK, ordinal);
+                hands[player] |= 1L << ordinal;
+                toggle(Zobrist.HAND, player, ordinal);
+            }
+        }
+        startRound();
+    }
+
+    private void startRound() {
+        roundNumber++;
+        phase = PHASE_OFFER;
+        actor = 0;
+        played = 0L;
+    }
+
+    private static int pickBit(long mask, SplittableRandom random) {
+        int index = random.nextInt(Long.bitCount(mask));
+        for (int i = 0; i < index; i++) {
+            mask &= mask - 1;
+        }
+        return Long.numberOfTrailingZeros(mask);
+    }
+
+    private boolean isComplete(int owner) {
+        return faceUp[owner] != NO_CARD && faceDown[owner] != NO_CARD;
+    }
+
+    private void take(int player, int owner, boolean takeFaceUp) {
+        if (takeFaceUp) {
+            jests[player] |= 1L << faceUp[owner];
+            toggle(Zobrist.JEST, player, faceUp[owner]);
+            toggle(Zobrist.FACE_UP, owner, faceUp[owner]);
+            faceUp[owner] = NO_CARD;
+        } else {
+            jests[player] |= 1L << faceDown[owner];
+            toggle(Zobrist.JEST, player, faceDown[owner]);
+            toggle(Zobrist.FACE_DOWN, owner, faceDown[owner]);
+            faceDown[owner] = NO_CARD;
+        }
+    }
+
+    private void toggle(int zone, int player, int ordinal) {
+        if (ordinal != NO_CARD) {
+            cardsHash ^= Zobrist.seat(player, Zobrist.key(zone, ordinal));
+        }
+    }
+
+    private void toggle(int zone, int player, long mask) {
+        if (mask != 0L) {
+            cardsHash ^= Zobrist.seat(player, Zobrist.of(zone, mask));
+        }
+    }
+
+    /**
+     * Même règle que {@link model.game.Round#getNextPlayer}: le propriétaire de l'offre
+     * choisie, sinon le joueur restant dont la carte visible est la plus forte.
+     */
+    private int nextPlayer(long played, int takenOwner) {
+        if ((played & (1L << takenOwner)) == 0) {
+            return takenOwner;
+        }
+        int best = -1;
+        int firstRemaining = -1;
+        for (int player = 0; player < jests.length; player++) {
+            if ((played & (1L << player)) != 0) {
+                continue;
+            }
+            if (firstRemaining < 0) {
+                firstRemaining = player;
+            }
+            if (faceUp[player] != NO_CARD
+                    && (best < 0 || setup.rank[faceUp[player]] > setup.rank[faceUp[best]])) {
+                best = player;
+            }
+        }
+        return best >= 0 ? best : firstRemaining;
+    }
+
+    private int startingPlayer() {
+        int best = -1;
+        for (int player = 0; player < jests.length; player++) {
+            if (faceUp[player] != NO_CARD
+                    && (best < 0 || setup.rank[faceUp[player]] > setup.rank[faceUp[best]])) {
+                best = player;
+            }
+        }
+        return best >= 0 ? best : 0;
+    }
+
+    private void returnOffersToDeck() {
+        for (int player = 0; player < jests.length; player++) {
+            if (faceUp[player] != NO_CARD) {
+                toggle(Zobrist.FACE_UP, player, faceUp[player]);
+                cardsHash ^= Zobrist.key(Zobrist.DECK, faceUp[player]);
+                deck[deckSize++] = faceUp[player];
+                faceUp[player] = NO_CARD;
+            }
+            if (faceDown[player] != NO_CARD) {
+                toggle(Zobrist.FACE_DOWN, player, faceDown[player]);
+                cardsHash ^= Zobrist.key(Zobrist.DECK, faceDown[player]);
+                deck[deckSize++] = faceDown[player];
+                faceDown[player] = NO_CARD;
+            }
+        }
+    }
+
+    private void returnOffersToHands() {
+        for (int player = 0; player < jests.length; player++) {
+            if (faceUp[player] != NO_CARD) {
+                toggle(Zobrist.FACE_UP, player, faceUp[player]);
+                toggle(Zobrist.HAND, player, faceUp[player]);
+                hands[player] |= 1L << faceUp[player];
+                faceUp[player] = NO_CARD;
+            }
+            if (faceDown[player] != NO_CARD) {
+                toggle(Zobrist.FACE_DOWN, player, faceDown[player]);
+                toggle(Zobrist.HAND, player, faceDown[player]);
+                hands[player] |= 1L << faceDown[player];
+                faceDown[player] = NO_CARD;
+            }
+        }
+    }
+
+    private boolean anyHandLargerThanOne() {
+        for (long hand : hands) {
+            if (Long.bitCount(hand) > 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Données communes à toutes les copies d'une simulation (lecture seule).
+     */
+    private static final class Setup {
+        private final Card[] cards;
+        private final int[] rank;
+        private final List<Card> trophies;
+        private final GameVariant variant;
+        private final Scorer scorer;
+        private final boolean fullHand;
+        private final long trophiesHash;
+
+        private Setup(Card[] cardsByOrdinal, List<Card> trophies, GameVariant variant, int playerCount) {
+            if (playerCount < 1 || playerCount > Long.SIZE) {
+                throw new IllegalArgumentException("Unsupported player count: " + playerCount);
+            }
+            this.cards = cardsByOrdinal.clone();
+            this.rank = new int[cards.length];
+            long cardsMask = 0L;
+            for (int ordinal = 0; ordinal < cards.length; ordinal++) {
+                Card card = cards[ordinal];
+                if (card != null) {
+                    rank[ordinal] = card.getFaceValue() * 16 + card.getSuitValue();
+                    cardsMask |= 1L << ordinal;
+                }
+            }
+            this.trophies = List.copyOf(trophies);
+            this.variant = variant;
+            this.scorer = ScorerFactory.forConfiguration(variant, cardsMask);
+            this.fullHand = variant instanceof FullHandVariant;
+            this.trophiesHash = Zobrist.of(Zobrist.TROPHY, this.trophies);
+        }
+
+        private List<Card> toCards(long mask) {
+            ArrayList<Card> result = new ArrayList<>(Long.bitCount(mask));
+            while (mask != 0) {
+                result.add(cards[Long.numberOfTrailingZeros(mask)]);
+                mask &= mask - 1;
+            }
+            return result;
+        }
+
+        private Jest toJest(long mask) {
+            Jest jest = new Jest();
+            while (mask != 0) {
+                jest.addCard(cards[Long.numberOfTrailingZeros(mask)]);
+                mask &= mask - 1;
+            }
+            return jest;
+        }
+    }
+}
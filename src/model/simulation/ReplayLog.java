@@ -0,0 +1,324 @@
+package model.simulation;
+
+import model.cards.CardMask;
+import model.cards.ExtensionCard;
+import model.game.ExtensionManager;
+import model.game.GameCodec;
+import model.game.GameConfiguration;
+import model.game.GameVariant;
+import model.players.strategies.StrategyType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Journal compact d'une partie jouée par {@link GameEngine}, pour la rejouer à l'identique.
+ *
+ * <p>Le journal ne contient que ce qui ne se déduit pas des règles : la graine
+ * (qui fixe le mélange du deck et les trophées), la configuration et la suite
+ * des décisions des joueurs. Une partie standard à quatre joueurs tient en une
+ * centaine d'octets.</p>
+ *
+ * <p><b>Format</b> (entiers en varint, la graine en zigzag) :</p>
+ * <ul>
+ *   <li>Version du format, graine, variante (0 Standard, 1 Reverse Scoring, 2 Full Hand)</li>
+ *   <li>Joueurs : nombre, puis nom (longueur et UTF-8) et stratégie de chacun</li>
+ *   <li>Extensions : nombre, puis ordinal à l'enregistrement et nom de chacune</li>
+ *   <li>Décisions, dans l'ordre du jeu, jusqu'à la fin du journal :
+ *       offre <code>1 + (visible &lt;&lt; 6 | cachée)</code> (ordinaux à l'enregistrement),
+ *       choix <code>1 + (place du propriétaire &lt;&lt; 1 | 1 si carte visible)</code>,
+ *       0 si le joueur n'a rien offert ou rien pris</li>
+ * </ul>
+ *
+ * <p><b>Rejeu :</b> {@link GameEngine#replay(ReplayLog)} recrée la partie à
+ * partir de la graine et applique les décisions enregistrées sans consulter
+ * les stratégies : le rejeu est rapide et reproduit aussi les décisions non
+ * déterministes (limite de temps, recherche parallèle).</p>
+ *
+ * <p><b>Extensions :</b> les ordinaux des extensions de fournisseurs
+ * ({@link model.game.ExtensionProvider}) peuvent changer d'un lancement à
+ * l'autre. Les cartes des décisions sont donc traduites, par le nom, vers
+ * les ordinaux du registre actuel ({@link Cursor#card(int)}). Les journaux de
+ * version 1, sans ordinaux dans l'en-tête, ne sont relus que s'ils
+ * n'utilisent que des extensions fournies, dont l'ordinal est fixe.</p>
+ *
+ * @see GameEngine#play(GameConfiguration, long, boolean)
+ * @see GameResult#getReplay()
+ */
+public final class ReplayLog {
+    private static final int VERSION = 2;
+    private static final int VERSION_WITHOUT_EXTENSION_ORDINALS = 1;
+    private static final int CARD_BITS = 6;
+
+    private final byte[] bytes;
+    private final long seed;
+    private final GameConfiguration configuration;
+    private final int[] ordinals;
+    private final int decisionsOffset;
+
+    private ReplayLog(byte[] bytes) {
+        this.bytes = bytes;
+        Cursor header = new Cursor(bytes, 0, null);
+        int version = header.nextInt();
+        if (version != VERSION && version != VERSION_WITHOUT_EXTENSION_ORDINALS) {
+            throw new IllegalArgumentException("Unsupported replay version: " + version);
+        }
+        this.seed = header.nextZigZag();
+        GameVariant variant = GameCodec.variant(header.nextInt());
+
+        int playerCount = header.nextInt();
+        StrategyType[] strategies = StrategyType.values();
+        ArrayList<GameConfiguration.PlayerConfiguration> players = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            String name = header.nextString();
+            int strategy = header.nextInt();
+            if (strategy >= strategies.length) {
+                throw new IllegalArgumentException("Unknown strategy in replay: " + strategy);
+            }
+            players.add(new GameConfiguration.PlayerConfiguration(name, false, strategies[strategy]));
+        }
+
+        this.ordinals = new int[CardMask.MAX_ORDINAL + 1];
+        for (int ordinal = 0; ordinal < CardMask.FIRST_EXTENSION_ORDINAL; ordinal++) {
+            ordinals[ordinal] = ordinal;
+        }
+        Arrays.fill(ordinals, CardMask.FIRST_EXTENSION_ORDINAL, ordinals.length, -1);
+
+        int extensionCount = header.nextInt();
+        ArrayList<ExtensionCard> extensions = new ArrayList<>();
+        for (int i = 0; i < extensionCount; i++) {
+            int recorded = version == VERSION ? header.nextInt() : -1;
+            ExtensionCard extension = extension(header.nextString());
+            if (version == VERSION_WITHOUT_EXTENSION_ORDINALS) {
+                if (!ExtensionManager.isBuiltIn(extension)) {
+                    throw new IllegalArgumentException("Replay version " + version
+                            + " cannot map the ordinal of provided extension " + extension.getName());
+                }
+                recorded = extension.getOrdinal();
+            }
+            if (recorded < CardMask.FIRST_EXTENSION_ORDINAL || recorded > CardMask.MAX_ORDINAL) {
+                throw new IllegalArgumentException("Invalid extension ordinal in replay: " + recorded);
+            }
+            ordinals[recorded] = extension.getOrdinal();
+            extensions.add(extension);
+        }
+
+        this.configuration = GameConfiguration.fromPlayerConfigs(players, variant, extensions);
+        this.decisionsOffset = header.position;
+    }
+
+    /**
+     * Relit un journal produit par {@link #toByteArray()}.
+     *
+     * @throws IllegalArgumentException si le journal est tronqué ou d'une version inconnue
+     */
+    public static ReplayLog fromBytes(byte[] bytes) {
+        return new ReplayLog(bytes.clone());
+    }
+
+    public static ReplayLog read(Path file) throws IOException {
+        return new ReplayLog(Files.readAllBytes(file));
+    }
+
+    public void write(Path file) throws IOException {
+        Files.write(file, bytes);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public GameConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * @return taille du journal en octets
+     */
+    public int size() {
+        return bytes.length;
+    }
+
+    public byte[] toByteArray() {
+        return bytes.clone();
+    }
+
+    Cursor decisions() {
+        return new Cursor(bytes, decisionsOffset, ordinals);
+    }
+
+    /**
+     * @return résultat de la partie rejouée
+     * @see GameEngine#replay(ReplayLog)
+     */
+    public GameResult replay() {
+        return GameEngine.replay(this);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ReplayLog && Arrays.equals(bytes, ((ReplayLog) other).bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "Replay of " + configuration.getVariant().getName() + " (seed " + seed + ", "
+                + configuration.getPlayerCount() + " players, " + bytes.length + " bytes)";
+    }
+
+    static int offerCode(int faceUpOrdinal, int faceDownOrdinal) {
+        return 1 + (faceUpOrdinal << CARD_BITS | faceDownOrdinal);
+    }
+
+    static int faceUpOrdinal(int code) {
+        return (code - 1) >>> CARD_BITS;
+    }
+
+    static int faceDownOrdinal(int code) {
+        return (code - 1) & ((1 << CARD_BITS) - 1);
+    }
+
+    static int takeCode(int ownerSeat, boolean faceUp) {
+        return 1 + (ownerSeat << 1 | (faceUp ? 1 : 0));
+    }
+
+    static int ownerSeat(int code) {
+        return (code - 1) >>> 1;
+    }
+
+    static boolean takesFaceUp(int code) {
+        return ((code - 1) & 1) != 0;
+    }
+
+    private static ExtensionCard extension(String name) {
+        ExtensionCard card = ExtensionManager.getExtension(name);
+        if (card != null) {
+            return card;
+        }
+        throw new IllegalArgumentException("Unknown extension in replay: " + name);
+    }
+
+    /**
+     * Enregistre les décisions d'une partie en cours.
+     */
+    static final class Recorder {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+
+        Recorder(GameConfiguration config, long seed) {
+            writeInt(VERSION);
+            writeLong(seed << 1 ^ seed >> 63);
+            writeInt(GameCodec.variantCode(config.getVariant()));
+            writeInt(config.getPlayerConfigs().size());
+            for (GameConfiguration.PlayerConfiguration player : config.getPlayerConfigs()) {
+                writeString(player.getName());
+                writeInt(player.getStrategy().ordinal());
+            }
+            writeInt(config.getSelectedExtensions().size());
+            for (ExtensionCard extension : config.getSelectedExtensions()) {
+                writeInt(ExtensionManager.resolve(extension).getOrdinal());
+                writeString(extension.getName());
+            }
+        }
+
+        void decision(int code) {
+            writeInt(code);
+        }
+
+        ReplayLog toLog() {
+            return new ReplayLog(out.toByteArray());
+        }
+
+        private void writeInt(int value) {
+            writeLong(value & 0xFFFFFFFFL);
+        }
+
+        private void writeLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        private void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(utf8.length);
+            out.write(utf8, 0, utf8.length);
+        }
+    }
+
+    /**
+     * Lecture séquentielle des varints d'un journal.
+     */
+    static final class Cursor {
+        private final byte[] bytes;
+        private final int[] ordinals;
+        private int position;
+
+        Cursor(byte[] bytes, int position, int[] ordinals) {
+            this.bytes = bytes;
+            this.position = position;
+            this.ordinals = ordinals;
+        }
+
+        /**
+         * @param recordedOrdinal ordinal d'une carte au moment de l'enregistrement
+         * @return ordinal actuel de cette carte, -1 si elle ne fait pas partie de la partie
+         */
+        int card(int recordedOrdinal) {
+            return recordedOrdinal >= 0 && recordedOrdinal < ordinals.length ? ordinals[recordedOrdinal] : -1;
+        }
+
+        boolean hasNext() {
+            return position < bytes.length;
+        }
+
+        int nextInt() {
+            long value = nextLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Corrupted replay at byte " + position);
+            }
+            return (int) value;
+        }
+
+        long nextZigZag() {
+            long value = nextLong();
+            return value >>> 1 ^ -(value & 1);
+        }
+
+        long nextLong() {
+            long value = 0L;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                if (position >= bytes.length) {
+                    throw new IllegalArgumentException("Truncated replay");
+                }
+                int b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Corrupted replay at byte " + position);
+        }
+
+        String nextString() {
+            int length = nextInt();
+            if (length > bytes.length - position) {
+                throw new IllegalArgumentException("Truncated replay");
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
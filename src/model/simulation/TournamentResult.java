@@ -0,0 +1,112 @@
+package model.simulation;
+
+import model.players.strategies.StrategyType;
+
+/**
+ * Statistiques agrégées d'un tournoi entre stratégies d'IA.
+ *
+ * <p>Pour chaque {@link StrategyType}, cette classe cumule le nombre de places
+ * occupées, le nombre de victoires (une égalité compte comme une victoire pour
+ * chaque gagnant) et la somme des scores finaux.</p>
+ *
+ * <p>Les résultats partiels calculés par chaque tâche sont fusionnés via
+ * {@link #merge(TournamentResult)}.</p>
+ *
+ * @see model.simulation.TournamentRunner
+ */
+public class TournamentResult {
+    private final long[] seats;
+    private final long[] wins;
+    private final long[] totalScores;
+    private long gamesPlayed;
+    private long elapsedNanos;
+
+    public TournamentResult() {
+        int strategyCount = StrategyType.values().length;
+        this.seats = new long[strategyCount];
+        this.wins = new long[strategyCount];
+        this.totalScores = new long[strategyCount];
+        this.gamesPlayed = 0;
+        this.elapsedNanos = 0;
+    }
+
+    public void record(GameResult result) {
+        for (int i = 0; i < result.getPlayerCount(); i++) {
+            int strategy = result.getStrategy(i).ordinal();
+            seats[strategy]++;
+            totalScores[strategy] += result.getScore(i);
+            if (result.isWinner(i)) {
+                wins[strategy]++;
+            }
+        }
+        gamesPlayed++;
+    }
+
+    public TournamentResult merge(TournamentResult other) {
+        for (int i = 0; i < seats.length; i++) {
+            seats[i] += other.seats[i];
+            wins[i] += other.wins[i];
+            totalScores[i] += other.totalScores[i];
+        }
+        gamesPlayed += other.gamesPlayed;
+        return this;
+    }
+
+    public long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    public long getSeats(StrategyType strategy) {
+        return seats[strategy.ordinal()];
+    }
+
+    public long getWins(StrategyType strategy) {
+        return wins[strategy.ordinal()];
+    }
+
+    public long getTotalScore(StrategyType strategy) {
+        return totalScores[strategy.ordinal()];
+    }
+
+    public double getWinRate(StrategyType strategy) {
+        long s = getSeats(strategy);
+        return s == 0 ? 0.0 : (double) getWins(strategy) / s;
+    }
+
+    public double getAverageScore(StrategyType strategy) {
+        long s = getSeats(strategy);
+        return s == 0 ? 0.0 : (double) getTotalScore(strategy) / s;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0.0;
+        }
+        return gamesPlayed / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-12s %10s %10s %9s %10s%n", "Strategy", "Seats", "Wins", "Win %", "Avg score"));
+        for (StrategyType strategy : StrategyType.values()) {
+            if (getSeats(strategy) == 0) {
+                continue;
+            }
+            sb.append(String.format("%-12s %10d %10d %8.2f%% %10.3f%n",
+                    strategy, getSeats(strategy), getWins(strategy),
+                    getWinRate(strategy) * 100.0, getAverageScore(strategy)));
+        }
+        sb.append(String.format("%d games in %.3f s (%.0f games/sec)",
+                gamesPlayed, elapsedNanos / 1_000_000_000.0, getGamesPerSecond()));
+        return sb.toString();
+    }
+}
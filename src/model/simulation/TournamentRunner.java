@@ -0,0 +1,110 @@
+package model.simulation;
+
+import model.game.GameConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Exécution parallèle d'un grand nombre de parties entre IA.
+ *
+ * <p>Les parties sont réparties sur un {@link ForkJoinPool} (vol de tâches) :
+ * l'intervalle des parties est découpé récursivement, chaque feuille joue ses
+ * parties avec {@link GameEngine} et les {@link TournamentResult} partiels sont
+ * fusionnés en remontant.</p>
+ *
+ * <p><b>Reproductibilité :</b> la partie d'indice <code>i</code> utilise la
+ * configuration <code>configs[i % configs.size()]</code> et la graine
+ * <code>baseSeed + i</code>, quel que soit le nombre de threads.</p>
+ *
+ * <p><b>Utilisation :</b></p>
+ * <pre>
+ * TournamentRunner runner = new TournamentRunner(configs, 100000, 16, 0L);
+ * TournamentResult result = runner.run();
+ * </pre>
+ *
+ * @see model.simulation.GameEngine
+ * @see model.simulation.TournamentResult
+ */
+public class TournamentRunner {
+    private static final int LEAF_SIZE = 64;
+
+    private final ArrayList<GameConfiguration> configs;
+    private final int games;
+    private final int threads;
+    private final long baseSeed;
+
+    /**
+     * @param configs configurations jouées à tour de rôle
+     * @param games nombre total de parties
+     * @param threads nombre de threads du pool
+     * @param baseSeed graine de la première partie
+     * @throws IllegalArgumentException si un paramètre ou une configuration n'est pas valide
+     */
+    public TournamentRunner(List<GameConfiguration> configs, int games, int threads, long baseSeed) {
+        if (configs == null || configs.isEmpty()) {
+            throw new IllegalArgumentException("At least one configuration is required");
+        }
+        if (games < 0) {
+            throw new IllegalArgumentException("games must not be negative");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1");
+        }
+        for (GameConfiguration config : configs) {
+            GameEngine.createGame(config, baseSeed);
+        }
+        this.configs = new ArrayList<>(configs);
+        this.games = games;
+        this.threads = threads;
+        this.baseSeed = baseSeed;
+    }
+
+    public TournamentResult run() {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long start = System.nanoTime();
+            TournamentResult result = pool.invoke(new GamesTask(0, games));
+            result.setElapsedNanos(System.nanoTime() - start);
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private GameResult playGame(int index) {
+        GameConfiguration config = configs.get(index % configs.size());
+        return GameEngine.play(config, baseSeed + index);
+    }
+
+    private class GamesTask extends RecursiveTask<TournamentResult> {
+        private static final long serialVersionUID = 1L;
+        private final int from;
+        private final int to;
+
+        GamesTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TournamentResult compute() {
+            if (to - from <= LEAF_SIZE) {
+                TournamentResult partial = new TournamentResult();
+                for (int i = from; i < to; i++) {
+                    partial.record(playGame(i));
+                }
+                return partial;
+            }
+
+            int middle = (from + to) >>> 1;
+            GamesTask left = new GamesTask(from, middle);
+            GamesTask right = new GamesTask(middle, to);
+            left.fork();
+            TournamentResult rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package model.simulation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Table de transpositions de taille fixe, partagée sans verrou entre threads de recherche.
+ *
+ * <p>Chaque entrée associe une empreinte de 64 bits (voir {@link model.cards.Zobrist})
+ * à une valeur de {@link #PAYLOAD_BITS} bits et à une profondeur (0 à {@link #MAX_DEPTH}).
+ * La table est allouée une fois ; elle ne grandit jamais.</p>
+ *
+ * <p><b>Sans verrou :</b> une entrée occupe deux mots, <code>empreinte ^ donnée</code>
+ * et <code>donnée</code>, écrits séparément. Une lecture ne retient l'entrée que
+ * si le OU exclusif des deux mots redonne l'empreinte cherchée : une écriture
+ * concurrente à moitié visible est ainsi vue comme une absence, jamais comme
+ * une valeur fausse.</p>
+ *
+ * <p><b>Remplacement :</b> chaque case contient deux entrées.</p>
+ * <ul>
+ *   <li>La première garde la position la plus profonde (la plus coûteuse à recalculer) ;
+ *       elle n'est remplacée que par une profondeur au moins égale ou par la même position</li>
+ *   <li>La seconde est toujours remplacée</li>
+ * </ul>
+ */
+public final class TranspositionTable {
+    public static final int PAYLOAD_BITS = 56;
+    public static final long MAX_PAYLOAD = (1L << PAYLOAD_BITS) - 1;
+    public static final int MAX_DEPTH = 0x7F;
+
+    private static final int DEPTH_BITS = Long.SIZE - PAYLOAD_BITS;
+    private static final int WORDS_PER_BUCKET = 4;
+    private static final long USED = MAX_DEPTH + 1;
+
+    private final AtomicLongArray words;
+    private final int bucketMask;
+
+    /**
+     * @param buckets nombre de cases, arrondi à la puissance de deux supérieure
+     */
+    public TranspositionTable(int buckets) {
+        if (buckets < 1 || buckets > 1 << 26) {
+            throw new IllegalArgumentException("Invalid transposition table size: " + buckets);
+        }
+        int size = Integer.highestOneBit(buckets);
+        if (size < buckets) {
+            size <<= 1;
+        }
+        this.words = new AtomicLongArray(size * WORDS_PER_BUCKET);
+        this.bucketMask = size - 1;
+    }
+
+    public int getCapacity() {
+        return words.length() / 2;
+    }
+
+    /**
+     * @return la valeur enregistrée pour cette empreinte, ou -1 si elle est absente
+     */
+    public long probe(long key) {
+        int base = bucket(key);
+        for (int slot = base; slot < base + WORDS_PER_BUCKET; slot += 2) {
+            long data = words.getOpaque(slot + 1);
+            if ((words.getOpaque(slot) ^ data) == key && data != 0L) {
+                return data >>> DEPTH_BITS;
+            }
+        }
+        return -1L;
+    }
+
+    /**
+     * @param key empreinte de la position
+     * @param payload valeur, entre 0 et {@link #MAX_PAYLOAD}
+     * @param depth profondeur de la recherche (plafonnée à {@link #MAX_DEPTH})
+     */
+    public void store(long key, long payload, int depth) {
+        if (payload < 0 || payload > MAX_PAYLOAD) {
+            throw new IllegalArgumentException("Payload out of range: " + payload);
+        }
+        long data = payload << DEPTH_BITS | Math.min(Math.max(depth, 0), MAX_DEPTH) | USED;
+        int base = bucket(key);
+        long deepData = words.getOpaque(base + 1);
+        boolean sameKey = (words.getOpaque(base) ^ deepData) == key;
+        int slot = sameKey || depth(data) >= depth(deepData) ? base : base + 2;
+        words.setOpaque(slot, key ^ data);
+        words.setOpaque(slot + 1, data);
+    }
+
+    public void clear() {
+        for (int i = 0; i < words.length(); i++) {
+            words.setOpaque(i, 0L);
+        }
+    }
+
+    private int bucket(long key) {
+        return (int) ((key ^ key >>> 32) & bucketMask) * WORDS_PER_BUCKET;
+    }
+
+    private static int depth(long data) {
+        return (int) data & MAX_DEPTH;
+    }
+}
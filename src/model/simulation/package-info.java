@@ -0,0 +1,17 @@
+/**
+ * Package contenant le moteur de simulation sans interface.
+ * 
+ * <p>Ce package permet de jouer des parties complètes entre joueurs virtuels
+ * sans vue ni affichage, afin d'évaluer et d'ajuster les stratégies d'IA.</p>
+ * 
+ * <p><b>Classes principales :</b></p>
+ * <ul>
+ *   <li>{@link model.simulation.GameEngine} - Déroulement d'une partie sans interface</li>
+ *   <li>{@link model.simulation.GameResult} - Scores, trophées et déroulement d'une partie</li>
+ *   <li>{@link model.simulation.ReplayLog} - Journal compact des décisions, pour rejouer une partie</li>
+ *   <li>{@link model.simulation.TournamentRunner} - Tournois parallèles entre stratégies</li>
+ * </ul>
+ * 
+ * @see model.simulation.GameEngine
+ */
+package model.simulation;